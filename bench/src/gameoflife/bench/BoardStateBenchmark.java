@@ -0,0 +1,57 @@
+package gameoflife.bench;
+
+import gameoflife.core.AbstractCell;
+import gameoflife.core.LifeLogic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the whole-board operations the UI performs outside the
+ * generation step: {@code getBoardState} copies and the migrations done by
+ * {@code LifeController.handleResize} when the board grows or shrinks by a row
+ * and a column.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardStateBenchmark {
+    @Param({"17", "64", "256", "1024", "4096"})
+    private int size;
+
+    private LifeLogic logic;
+
+    @Setup
+    public void setUp() {
+        logic = Boards.create(size, "soup", "plant");
+    }
+
+    @Benchmark
+    public AbstractCell[][] getBoardState() {
+        return logic.getBoardState();
+    }
+
+    @Benchmark
+    public LifeLogic resize() {
+        int grown = logic.getRows() == size ? size + 1 : size;
+        logic.resize(grown, grown);
+        return logic;
+    }
+}
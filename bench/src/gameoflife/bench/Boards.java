@@ -0,0 +1,101 @@
+package gameoflife.bench;
+
+import gameoflife.core.AbstractCell;
+import gameoflife.core.ActiveTileEngine;
+import gameoflife.core.AnimalCell;
+import gameoflife.core.BitboardEngine;
+import gameoflife.core.GenerationEngine;
+import gameoflife.core.LargerThanLifeEngine;
+import gameoflife.core.LifeLogic;
+import gameoflife.core.NeighborCountEngine;
+import gameoflife.core.ParallelEngine;
+import gameoflife.core.PlantCell;
+import gameoflife.core.ScalarEngine;
+import gameoflife.core.VectorEngine;
+import gameoflife.core.WallCell;
+
+import java.util.SplittableRandom;
+
+/**
+ * Builds reproducible benchmark boards from the parameter names shared by the benchmarks.
+ *
+ * <pre>
+ * Densities:       empty, 10, 50 (percent of living cells), soup (a random
+ * density per 16x16 block, from 0 to 100 percent)
+ * Mixes:           animal (all AnimalCells), plant (a third PlantCells),
+ * wall (a third WallCells)
+ * Engines:         scalar, bitboard, parallel, tiles, neighbors, ltl, vector
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+final class Boards {
+    private static final long SEED = 142L;
+    private static final int SOUP_BLOCK = 16;
+
+    private Boards() {
+    }
+
+    /**
+     * Creates a square board filled according to a density and a cell-type mix.
+     *
+     * @param size    the number of rows and columns
+     * @param density the density parameter
+     * @param mix     the cell-type mix parameter
+     * @return the new board
+     */
+    static LifeLogic create(int size, String density, String mix) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        AbstractCell[] live = { new AnimalCell(true), new PlantCell(true), new WallCell() };
+        AbstractCell[] dead = { new AnimalCell(false), new PlantCell(false), new WallCell() };
+
+        double[] blockDensities = new double[((size + SOUP_BLOCK - 1) / SOUP_BLOCK) * ((size + SOUP_BLOCK - 1) / SOUP_BLOCK)];
+        for (int i = 0; i < blockDensities.length; i++) {
+            blockDensities[i] = random.nextDouble();
+        }
+
+        LifeLogic logic = new LifeLogic(size, size);
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                int type = switch (mix) {
+                    case "animal" -> 0;
+                    case "plant" -> random.nextInt(3) == 0 ? 1 : 0;
+                    case "wall" -> random.nextInt(3) == 0 ? 2 : 0;
+                    default -> throw new IllegalArgumentException("Unknown mix " + mix);
+                };
+                double chance = switch (density) {
+                    case "empty" -> 0;
+                    case "10" -> 0.1;
+                    case "50" -> 0.5;
+                    case "soup" -> blockDensities[(r / SOUP_BLOCK) * ((size + SOUP_BLOCK - 1) / SOUP_BLOCK) + c / SOUP_BLOCK];
+                    default -> throw new IllegalArgumentException("Unknown density " + density);
+                };
+                boolean isAlive = random.nextDouble() < chance;
+                if (type != 0 || isAlive) {
+                    logic.setCell(r, c, isAlive ? live[type] : dead[type]);
+                }
+            }
+        }
+        return logic;
+    }
+
+    /**
+     * Creates the engine with the given parameter name.
+     * @param name the engine parameter
+     * @return a new engine
+     */
+    static GenerationEngine engine(String name) {
+        return switch (name) {
+            case "scalar" -> new ScalarEngine();
+            case "bitboard" -> new BitboardEngine();
+            case "parallel" -> new ParallelEngine(new BitboardEngine());
+            case "tiles" -> new ActiveTileEngine();
+            case "neighbors" -> new NeighborCountEngine();
+            case "ltl" -> new LargerThanLifeEngine();
+            case "vector" -> new VectorEngine();
+            default -> throw new IllegalArgumentException("Unknown engine " + name);
+        };
+    }
+}
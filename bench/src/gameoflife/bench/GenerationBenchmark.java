@@ -0,0 +1,78 @@
+package gameoflife.bench;
+
+import gameoflife.core.LifeLogic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code LifeLogic.calculateNextGeneration} across board sizes, densities,
+ * cell-type mixes and engines. The scalar engine's time is dominated by neighbor
+ * counting, so comparing it with the other engines also tracks that cost. The board
+ * is rebuilt before every iteration, so densities stay close to their nominal value.
+ * By default only soup boards with a third of PlantCells are run, at three sizes, which
+ * takes about six minutes. Every size, density and mix {@code Boards} knows takes
+ * about two hours, with
+ * {@code -p size=17,64,256,1024,4096 -p density=empty,10,50,soup -p mix=animal,plant,wall}.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// Resolves the incubator module, so the vector engine runs its kernel
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class GenerationBenchmark {
+    @Param({"64", "1024", "4096"})
+    private int size;
+
+    @Param({"soup"})
+    private String density;
+
+    @Param({"plant"})
+    private String mix;
+
+    @Param({"scalar", "bitboard", "parallel", "tiles", "neighbors", "ltl", "vector"})
+    private String engine;
+
+    private LifeLogic logic;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        logic = Boards.create(size, density, mix);
+        logic.setEngine(Boards.engine(engine));
+    }
+
+    @Benchmark
+    public void step(Blackhole blackhole) {
+        logic.calculateNextGeneration();
+        blackhole.consume(logic.getLivingCount());
+    }
+
+    /**
+     * Steps and then walks the cells that changed, which is the work the view does
+     * every frame to repaint incrementally.
+     */
+    @Benchmark
+    public void stepAndSyncChanges(Blackhole blackhole) {
+        logic.calculateNextGeneration();
+        logic.getChangedCells().forEach((row, col) -> blackhole.consume(logic.isAlive(row, col)));
+        logic.clearChangedCells();
+    }
+}
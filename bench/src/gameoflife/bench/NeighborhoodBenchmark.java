@@ -0,0 +1,69 @@
+package gameoflife.bench;
+
+import gameoflife.core.CellType;
+import gameoflife.core.LargerThanLifeEngine;
+import gameoflife.core.LifeLogic;
+import gameoflife.core.LifeRule;
+import gameoflife.core.Neighborhood;
+import gameoflife.core.RuleRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@code LargerThanLifeEngine} across neighborhood shapes and radii. The
+ * counts come from summed-area tables, so the time of a step should not grow with the
+ * radius. Animals are born and survive on the middle third of the counts, which keeps
+ * soups alive for the length of an iteration.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NeighborhoodBenchmark {
+    @Param({"256", "1024"})
+    private int size;
+
+    @Param({"MOORE", "VON_NEUMANN"})
+    private Neighborhood.Shape shape;
+
+    @Param({"1", "5", "10", "20"})
+    private int radius;
+
+    private LifeLogic logic;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        logic = Boards.create(size, "50", "animal");
+        Neighborhood neighborhood = new Neighborhood(shape, radius, false);
+        int third = neighborhood.size() / 3;
+        RuleRegistry rules = new RuleRegistry();
+        rules.setRule(CellType.ANIMAL, new LifeRule(neighborhood, third, 2 * third, third, 2 * third));
+        logic.setRules(rules);
+        logic.setEngine(new LargerThanLifeEngine());
+    }
+
+    @Benchmark
+    public void step(Blackhole blackhole) {
+        logic.calculateNextGeneration();
+        blackhole.consume(logic.getLivingCount());
+    }
+}
@@ -1,4 +1,4 @@
-package gameoflife;
+package gameoflife.core;
 
 /**
  * The abstract base class for all logical entities in the Game of Life grid.
@@ -53,6 +53,15 @@ public abstract class AbstractCell {
         this.isAlive = nextState;
     }
 
+    /**
+     * Returns the state produced by the most recent {@code calculateNextState} call
+     * without committing it.
+     * @return true if the cell will be alive in the next generation
+     */
+    public boolean getNextState() {
+        return nextState;
+    }
+
     /**
      * Calculates whether this cell will be alive or dead in the next generation.
      * Subclasses must define their own survival and reproduction rules.
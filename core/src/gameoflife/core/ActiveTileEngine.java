@@ -0,0 +1,224 @@
+package gameoflife.core;
+
+/**
+ * Generation engine that only recomputes the parts of the board that can change.
+ * The board is split into square tiles; a tile is recomputed when it changed during
+ * the last generation, was edited since, or borders such a tile. Every other tile is
+ * provably stable and skipped, so the cost of a generation scales with activity rather
+ * than with board area. Rules are read from the board's {@code RuleRegistry}.
+ *
+ * <pre>
+ * Implementation:  The alive planes are double-buffered, so a skipped tile must hold
+ * the same cells in both planes. That is exactly the case when it
+ * did not change during the previous generation, which is the same
+ * condition that lets it be skipped. Edits only touch the current
+ * plane and always schedule their tile for recomputation.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class ActiveTileEngine implements GenerationEngine {
+    /** Default width and height of a tile, in cells. */
+    public static final int DEFAULT_TILE_SIZE = 32;
+    private static final int TYPE_COUNT = CellType.values().length;
+
+    private final int tileSize;
+    private final int[] survivalMasks = new int[TYPE_COUNT];
+    private final int[] birthMasks = new int[TYPE_COUNT];
+
+    private int rows = -1;
+    private int cols = -1;
+    private int tileRows;
+    private int tileCols;
+    private boolean initialized = false;
+
+    // Tiles to compute in the coming generation, and the ones scheduled for the one after
+    private int[] activeTiles;
+    private int activeCount;
+    private int[] pendingTiles;
+    private int pendingCount;
+    private boolean[] scheduled;
+
+    private int[] tileLiving;
+    private int living;
+
+    /**
+     * Constructs an active-tile engine with the default tile size.
+     */
+    public ActiveTileEngine() {
+        this(DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Constructs an active-tile engine.
+     * @param tileSize the width and height of a tile, in cells (must be > 0)
+     */
+    public ActiveTileEngine(int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("tileSize must be positive: " + tileSize);
+        }
+        this.tileSize = tileSize;
+    }
+
+    @Override
+    public StepCounts step(LifeLogic board) {
+        if (!initialized || board.getRows() != rows || board.getCols() != cols) {
+            initialize(board);
+        }
+
+        int[] tiles = pendingTiles;
+        pendingTiles = activeTiles;
+        activeTiles = tiles;
+        activeCount = pendingCount;
+        pendingCount = 0;
+        for (int i = 0; i < activeCount; i++) {
+            scheduled[activeTiles[i]] = false;
+        }
+
+        int births = 0;
+        int deaths = 0;
+        for (int i = 0; i < activeCount; i++) {
+            int tile = activeTiles[i];
+            StepCounts counts = stepTile(board, tile);
+
+            // Recounted rather than adjusted, since edits may have changed the tile since its last count
+            living += counts.living() - tileLiving[tile];
+            tileLiving[tile] = counts.living();
+            births += counts.births();
+            deaths += counts.deaths();
+            if (counts.births() != 0 || counts.deaths() != 0) {
+                scheduleAround(tile / tileCols, tile % tileCols);
+            }
+        }
+        return new StepCounts(living, births, deaths);
+    }
+
+    /**
+     * Computes the next generation of one tile into the spare plane.
+     * @return the population, births and deaths within the tile
+     */
+    private StepCounts stepTile(LifeLogic board, int tile) {
+        byte[] cellTypes = board.cellTypePlane();
+        byte[] alive = board.alivePlane();
+        byte[] nextAlive = board.nextAlivePlane();
+        ChangedCells changes = board.getChangedCells();
+
+        int fromRow = (tile / tileCols) * tileSize;
+        int fromCol = (tile % tileCols) * tileSize;
+        int toRow = Math.min(fromRow + tileSize, rows);
+        int toCol = Math.min(fromCol + tileSize, cols);
+
+        int births = 0;
+        int deaths = 0;
+        int tileLivingNow = 0;
+        for (int r = fromRow; r < toRow; r++) {
+            int rowStart = r * cols;
+            int top = Math.max(r - 1, 0);
+            int bottom = Math.min(r + 1, rows - 1);
+            for (int c = fromCol; c < toCol; c++) {
+                int left = Math.max(c - 1, 0);
+                int right = Math.min(c + 1, cols - 1);
+
+                int index = rowStart + c;
+                int livingNeighbors = -alive[index];
+                for (int nr = top; nr <= bottom; nr++) {
+                    int neighborStart = nr * cols;
+                    for (int nc = left; nc <= right; nc++) {
+                        livingNeighbors += alive[neighborStart + nc];
+                    }
+                }
+
+                boolean wasAlive = alive[index] != 0;
+                int ruleMask = wasAlive ? survivalMasks[cellTypes[index]] : birthMasks[cellTypes[index]];
+                boolean isNowAlive = (ruleMask & (1 << livingNeighbors)) != 0;
+                nextAlive[index] = (byte) (isNowAlive ? 1 : 0);
+
+                if (isNowAlive) {
+                    tileLivingNow++;
+                    if (!wasAlive) {
+                        births++;
+                        changes.mark(r, c);
+                    }
+                } else if (wasAlive) {
+                    deaths++;
+                    changes.mark(r, c);
+                }
+            }
+        }
+
+        return new StepCounts(tileLivingNow, births, deaths);
+    }
+
+    /**
+     * Schedules a tile and its 8 neighbors for the next generation.
+     */
+    private void scheduleAround(int tileRow, int tileCol) {
+        for (int r = Math.max(tileRow - 1, 0); r <= Math.min(tileRow + 1, tileRows - 1); r++) {
+            for (int c = Math.max(tileCol - 1, 0); c <= Math.min(tileCol + 1, tileCols - 1); c++) {
+                int tile = r * tileCols + c;
+                if (!scheduled[tile]) {
+                    scheduled[tile] = true;
+                    pendingTiles[pendingCount++] = tile;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sizes the tile grid for the board, counts its population and schedules every tile.
+     */
+    private void initialize(LifeLogic board) {
+        rows = board.getRows();
+        cols = board.getCols();
+        tileRows = (rows + tileSize - 1) / tileSize;
+        tileCols = (cols + tileSize - 1) / tileSize;
+
+        int tileCount = tileRows * tileCols;
+        activeTiles = new int[tileCount];
+        pendingTiles = new int[tileCount];
+        scheduled = new boolean[tileCount];
+        tileLiving = new int[tileCount];
+
+        byte[] alive = board.alivePlane();
+        living = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (alive[r * cols + c] != 0) {
+                    tileLiving[(r / tileSize) * tileCols + c / tileSize]++;
+                    living++;
+                }
+            }
+        }
+
+        pendingCount = 0;
+        for (int tile = 0; tile < tileCount; tile++) {
+            scheduled[tile] = true;
+            pendingTiles[pendingCount++] = tile;
+        }
+
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            survivalMasks[type] = board.ruleMask(type, true);
+            birthMasks[type] = board.ruleMask(type, false);
+        }
+        initialized = true;
+    }
+
+    @Override
+    public void cellEdited(LifeLogic board, int row, int col) {
+        if (initialized && row < rows && col < cols) {
+            scheduleAround(row / tileSize, col / tileSize);
+        }
+    }
+
+    @Override
+    public void reset() {
+        initialized = false;
+    }
+
+    @Override
+    public String getName() {
+        return "Active Tiles";
+    }
+}
@@ -1,4 +1,4 @@
-package gameoflife;
+package gameoflife.core;
 
 /**
  * Represents a standard animal entity in the Game of Life.
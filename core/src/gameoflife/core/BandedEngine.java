@@ -0,0 +1,45 @@
+package gameoflife.core;
+
+/**
+ * A {@code GenerationEngine} whose step can be split into horizontal bands of rows.
+ * A step is {@code prepare}, then {@code stepRows} for bands covering every row exactly
+ * once, then {@code finish}. Bands only read the current generation and only write their
+ * own rows of the next one, so disjoint bands may be computed concurrently.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public interface BandedEngine extends GenerationEngine {
+
+    /**
+     * Brings any cached state up to date with the board before the bands run.
+     * @param board the board about to be advanced
+     */
+    void prepare(LifeLogic board);
+
+    /**
+     * Computes the next generation for the rows in {@code [fromRow, toRow)}.
+     * Must be safe to call concurrently for disjoint row ranges.
+     *
+     * @param board   the board being advanced
+     * @param fromRow the first row of the band (inclusive)
+     * @param toRow   the last row of the band (exclusive)
+     * @return the population, births and deaths within the band
+     */
+    StepCounts stepRows(LifeLogic board, int fromRow, int toRow);
+
+    /**
+     * Completes a step once every band has been computed.
+     * @param board the board that was advanced
+     */
+    void finish(LifeLogic board);
+
+    @Override
+    default StepCounts step(LifeLogic board) {
+        prepare(board);
+        StepCounts counts = stepRows(board, 0, board.getRows());
+        finish(board);
+        return counts;
+    }
+}
@@ -0,0 +1,117 @@
+package gameoflife.core;
+
+/**
+ * Applies the rules of every {@code CellType} to 64 cells at once. The neighbor counts
+ * of a word are summed with bit-sliced adders and matched against birth and survival
+ * sets read from the board's {@code RuleRegistry}.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+final class BitSlicedRules {
+    static final int TYPE_COUNT = CellType.values().length;
+
+    private final int[] survivalMasks = new int[TYPE_COUNT];
+    private final int[] birthMasks = new int[TYPE_COUNT];
+    private final boolean birthOnZero;
+
+    /**
+     * Reads the rules of every cell type from a board.
+     * @param board the board whose rules are used
+     */
+    BitSlicedRules(LifeLogic board) {
+        boolean zero = false;
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            survivalMasks[type] = board.ruleMask(type, true);
+            birthMasks[type] = board.ruleMask(type, false);
+            zero |= (birthMasks[type] & 1) != 0;
+        }
+        birthOnZero = zero;
+    }
+
+    /**
+     * Checks whether any rule brings a cell alive with no living neighbors.
+     * @return true if empty space can come alive
+     */
+    boolean birthOnZero() {
+        return birthOnZero;
+    }
+
+    /**
+     * Computes the next state of 64 cells. Each neighbor argument holds, for every bit,
+     * the state of the neighbor in that direction.
+     *
+     * @param n1        the north-west neighbors
+     * @param n2        the north neighbors
+     * @param n3        the north-east neighbors
+     * @param n4        the west neighbors
+     * @param n5        the east neighbors
+     * @param n6        the south-west neighbors
+     * @param n7        the south neighbors
+     * @param n8        the south-east neighbors
+     * @param word      the current states of the cells
+     * @param typeWords the cells of each type, indexed by {@code CellType} ordinal
+     * @param countEquals scratch space for 9 words
+     * @return the next states of the cells
+     */
+    long next(long n1, long n2, long n3, long n4, long n5, long n6, long n7, long n8,
+              long word, long[] typeWords, long[] countEquals) {
+        // Bit-sliced addition of 8 one-bit inputs into a 4-bit count
+        long x12 = n1 ^ n2;
+        long s1 = x12 ^ n3;
+        long c1 = (n1 & n2) | (n3 & x12);
+        long x45 = n4 ^ n5;
+        long s2 = x45 ^ n6;
+        long c2 = (n4 & n5) | (n6 & x45);
+        long s3 = n7 ^ n8;
+        long c3 = n7 & n8;
+
+        long xs = s1 ^ s2;
+        long bit0 = xs ^ s3;
+        long c4 = (s1 & s2) | (s3 & xs);
+
+        long xc = c1 ^ c2;
+        long t = xc ^ c3;
+        long c5 = (c1 & c2) | (c3 & xc);
+        long bit1 = t ^ c4;
+        long c6 = t & c4;
+
+        long bit2 = c5 ^ c6;
+        long bit3 = c5 & c6;
+
+        for (int n = 0; n <= 8; n++) {
+            countEquals[n] = ((n & 1) != 0 ? bit0 : ~bit0)
+                    & ((n & 2) != 0 ? bit1 : ~bit1)
+                    & ((n & 4) != 0 ? bit2 : ~bit2)
+                    & ((n & 8) != 0 ? bit3 : ~bit3);
+        }
+
+        long nextWord = 0;
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            long typeMask = typeWords[type];
+            if (typeMask == 0) continue;
+
+            long survives = selectCounts(countEquals, survivalMasks[type]);
+            long born = selectCounts(countEquals, birthMasks[type]);
+            nextWord |= typeMask & ((word & survives) | (~word & born));
+        }
+        return nextWord;
+    }
+
+    /**
+     * Combines the neighbor count masks of a word for every count in a rule mask.
+     * @param countEquals the masks of the bits with each neighbor count from 0 to 8
+     * @param ruleMask    a 9-bit mask of neighbor counts
+     * @return the bits whose neighbor count is in the rule mask
+     */
+    private static long selectCounts(long[] countEquals, int ruleMask) {
+        long selected = 0;
+        for (int n = 0; n <= 8; n++) {
+            if ((ruleMask & (1 << n)) != 0) {
+                selected |= countEquals[n];
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,219 @@
+package gameoflife.core;
+
+import java.util.Arrays;
+
+/**
+ * Bit-parallel generation engine. Each board row is packed into {@code long} words,
+ * 64 cells per word, and the neighbor counts of a whole word are computed at once
+ * with bit-sliced adders ({@code BitSlicedRules}). The rule of every {@code CellType} is
+ * applied through a per-type mask built from the type plane, using birth and survival
+ * sets read from the board's {@code RuleRegistry}, so results are identical to
+ * {@code ScalarEngine}.
+ *
+ * <pre>
+ * Implementation:  The packed words are kept between generations and only rebuilt
+ * from the byte planes after an edit. After a step, a word is only
+ * unpacked into the byte plane when it differs from the generation
+ * that plane already holds.
+ * Boundary:        The rows past the top and bottom edges are mapped onto the board
+ * by the {@code BoundaryMode}, and the cells past the left and right
+ * edges are shifted into the first and last word of every row.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class BitboardEngine implements BandedEngine {
+    private static final int TYPE_COUNT = BitSlicedRules.TYPE_COUNT;
+
+    private int rows = -1;
+    private int cols = -1;
+    private int wordsPerRow;
+
+    private long[] current;
+    private long[] next;
+    private long[][] typeMasks;
+    private BitSlicedRules rules;
+    // The columns read past the left and right edges, or -1 for dead cells
+    private int westEdgeCol;
+    private int eastEdgeCol;
+    private BoundaryMode boundary;
+
+    // The board's byte plane whose contents equal the words in next, if any
+    private byte[] mirroredPlane;
+    private boolean spareMatches;
+    private int seenModificationCount;
+    private boolean packed = false;
+
+    @Override
+    public void prepare(LifeLogic board) {
+        if (!packed || board.getRows() != rows || board.getCols() != cols
+                || board.getModificationCount() != seenModificationCount) {
+            pack(board);
+        }
+        spareMatches = board.nextAlivePlane() == mirroredPlane;
+    }
+
+    @Override
+    public StepCounts stepRows(LifeLogic board, int fromRow, int toRow) {
+        byte[] nextAlive = board.nextAlivePlane();
+        ChangedCells changes = board.getChangedCells();
+        long[] countEquals = new long[9];
+        long[] typeWords = new long[TYPE_COUNT];
+
+        int living = 0;
+        int births = 0;
+        int deaths = 0;
+
+        for (int r = fromRow; r < toRow; r++) {
+            int rowStart = r * wordsPerRow;
+            int above = boundary.map(r - 1, rows);
+            int below = boundary.map(r + 1, rows);
+            int aboveStart = above < 0 ? -1 : above * wordsPerRow;
+            int belowStart = below < 0 ? -1 : below * wordsPerRow;
+
+            for (int w = 0; w < wordsPerRow; w++) {
+                int i = rowStart + w;
+
+                // The 8 neighbor inputs of every bit in the word
+                long n1 = aboveStart < 0 ? 0 : westOf(current, aboveStart, w);
+                long n2 = aboveStart < 0 ? 0 : current[aboveStart + w];
+                long n3 = aboveStart < 0 ? 0 : eastOf(current, aboveStart, w);
+                long n4 = westOf(current, rowStart, w);
+                long n5 = eastOf(current, rowStart, w);
+                long n6 = belowStart < 0 ? 0 : westOf(current, belowStart, w);
+                long n7 = belowStart < 0 ? 0 : current[belowStart + w];
+                long n8 = belowStart < 0 ? 0 : eastOf(current, belowStart, w);
+
+                long word = current[i];
+                for (int type = 0; type < TYPE_COUNT; type++) {
+                    typeWords[type] = typeMasks[type][i];
+                }
+                long nextWord = rules.next(n1, n2, n3, n4, n5, n6, n7, n8, word, typeWords, countEquals);
+
+                living += Long.bitCount(nextWord);
+                births += Long.bitCount(nextWord & ~word);
+                deaths += Long.bitCount(word & ~nextWord);
+                changes.markWord(r, w, word ^ nextWord);
+
+                if (!spareMatches || next[i] != nextWord) {
+                    unpack(nextWord, nextAlive, r * cols + w * 64, Math.min(64, cols - w * 64));
+                }
+                next[i] = nextWord;
+            }
+        }
+        return new StepCounts(living, births, deaths);
+    }
+
+    @Override
+    public void finish(LifeLogic board) {
+        long[] previous = current;
+        current = next;
+        next = previous;
+
+        // LifeLogic swaps its planes after the step, so the current plane becomes the
+        // spare one and it matches the words now held in next
+        mirroredPlane = board.alivePlane();
+    }
+
+    /**
+     * Returns, for every bit of a word, the state of the cell one column to its left.
+     * The first column reads the cell past the left edge.
+     */
+    private long westOf(long[] words, int rowStart, int w) {
+        long carry = w > 0 ? words[rowStart + w - 1] >>> 63 : edgeBit(words, rowStart, westEdgeCol);
+        return (words[rowStart + w] << 1) | carry;
+    }
+
+    /**
+     * Returns, for every bit of a word, the state of the cell one column to its right.
+     * The last column reads the cell past the right edge, which is shifted in through
+     * the first unused bit of the row's last word, or through the carry when it is full.
+     */
+    private long eastOf(long[] words, int rowStart, int w) {
+        long word = words[rowStart + w];
+        if (w < wordsPerRow - 1) {
+            return (word >>> 1) | (words[rowStart + w + 1] << 63);
+        }
+        long edge = edgeBit(words, rowStart, eastEdgeCol);
+        int unused = cols & 63;
+        return unused == 0 ? (word >>> 1) | (edge << 63) : (word | edge << unused) >>> 1;
+    }
+
+    /**
+     * Returns the state of a column of a packed row, or 0 for a dead off-board column.
+     */
+    private static long edgeBit(long[] words, int rowStart, int col) {
+        return col < 0 ? 0 : (words[rowStart + (col >>> 6)] >>> col) & 1;
+    }
+
+    /**
+     * Writes the low {@code count} bits of a word into a byte plane, one byte per bit.
+     */
+    private static void unpack(long word, byte[] plane, int offset, int count) {
+        for (int b = 0; b < count; b++) {
+            plane[offset + b] = (byte) ((word >>> b) & 1);
+        }
+    }
+
+    /**
+     * Rebuilds the packed alive words, the per-type masks and the rule sets from the board.
+     * @param board the board to read
+     */
+    private void pack(LifeLogic board) {
+        if (board.getRows() != rows || board.getCols() != cols || current == null) {
+            rows = board.getRows();
+            cols = board.getCols();
+            wordsPerRow = (cols + 63) >>> 6;
+            current = new long[rows * wordsPerRow];
+            next = new long[rows * wordsPerRow];
+            typeMasks = new long[TYPE_COUNT][rows * wordsPerRow];
+        } else {
+            Arrays.fill(current, 0);
+            for (long[] typeMask : typeMasks) {
+                Arrays.fill(typeMask, 0);
+            }
+        }
+
+        byte[] alive = board.alivePlane();
+        byte[] cellTypes = board.cellTypePlane();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int index = r * cols + c;
+                int word = r * wordsPerRow + (c >>> 6);
+                long bit = 1L << c;
+                if (alive[index] != 0) {
+                    current[word] |= bit;
+                }
+                typeMasks[cellTypes[index]][word] |= bit;
+            }
+        }
+
+        rules = new BitSlicedRules(board);
+        boundary = board.getBoundaryMode();
+        westEdgeCol = boundary.map(-1, cols);
+        eastEdgeCol = boundary.map(cols, cols);
+
+        // Edits never touch the spare plane, so next keeps mirroring it; a reallocated
+        // board is caught by the identity check against mirroredPlane
+        seenModificationCount = board.getModificationCount();
+        packed = true;
+    }
+
+    @Override
+    public void reset() {
+        packed = false;
+        mirroredPlane = null;
+    }
+
+    @Override
+    public boolean supportsBoundary(BoundaryMode mode) {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Bitboard";
+    }
+}
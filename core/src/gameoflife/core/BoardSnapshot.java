@@ -0,0 +1,244 @@
+package gameoflife.core;
+
+/**
+ * Immutable-once-published copy of a board, handed from the simulation thread to the
+ * view. Along with the planes and statistics, it carries the cells that changed since
+ * the snapshot published before it, so the view can repaint incrementally.
+ *
+ * <pre>
+ * Implementation:  Snapshots are recycled by {@code LifeSimulation}, which owns three
+ * of them; a snapshot is only written while neither the view nor
+ * the ready slot holds it.
+ * Copying:         Each snapshot remembers the rows whose cells changed on the board
+ * since it was last written, and a capture only copies those rows,
+ * so publishing costs in proportion to the changed rows.
+ * Memory:          Every cell is packed into 4 bits holding its {@code CellType}
+ * ordinal * 2 + 1 if alive, half a byte per cell per snapshot.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class BoardSnapshot {
+    private static final CellType[] CELL_TYPES = CellType.values();
+
+    private int rows;
+    private int cols;
+    private int rowBytes;
+    // Two cells per byte, the even column in the low 4 bits
+    private byte[] states = new byte[0];
+    private final ChangedCells changedCells = new ChangedCells(0, 0);
+    // Rows that changed on the board since this snapshot last copied them
+    private boolean[] staleRows = new boolean[0];
+    private boolean allStale = true;
+
+    private int generationCount;
+    private int livingCount;
+    private int deceasedCount;
+    private int period;
+    private int historyStart;
+    private int historyEnd;
+    private String engineName;
+
+    /**
+     * Copies the planes and statistics of a board, along with the cells it recorded
+     * as changed since its changes were last cleared. Only the rows that changed since
+     * this snapshot was last captured are copied.
+     * @param logic the board to copy
+     */
+    void capture(LifeLogic logic) {
+        if (logic.getRows() != rows || logic.getCols() != cols) {
+            int newRowBytes = (logic.getCols() + 1) >> 1;
+            states = new byte[logic.getRows() * newRowBytes];
+            staleRows = new boolean[logic.getRows()];
+            rows = logic.getRows();
+            cols = logic.getCols();
+            rowBytes = newRowBytes;
+            allStale = true;
+        }
+        markStale(logic.getChangedCells());
+        byte[] cellTypes = logic.cellTypePlane();
+        byte[] alive = logic.alivePlane();
+        for (int r = 0; r < rows; r++) {
+            if (allStale || staleRows[r]) {
+                copyRow(cellTypes, alive, r);
+                staleRows[r] = false;
+            }
+        }
+        allStale = false;
+
+        changedCells.resize(rows, cols);
+        changedCells.clear();
+        changedCells.addAll(logic.getChangedCells());
+
+        generationCount = logic.getGenerationCount();
+        livingCount = logic.getLivingCount();
+        deceasedCount = logic.getDeceasedCount();
+        period = logic.getPeriod();
+        historyStart = logic.getHistoryStart();
+        historyEnd = logic.getHistoryEnd();
+        engineName = logic.getActiveEngineName();
+    }
+
+    /**
+     * Records that the board changed since this snapshot was captured, so the next
+     * capture copies the rows holding the changes.
+     * @param changes the cells changed on the board, before they are cleared
+     */
+    void markStale(ChangedCells changes) {
+        if (changes.isAllChanged() || changes.getRows() != rows || changes.getCols() != cols) {
+            allStale = true;
+        } else if (!allStale && !changes.isEmpty()) {
+            for (int r = 0; r < rows; r++) {
+                if (changes.isRowChanged(r)) {
+                    staleRows[r] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs a row of the board's planes into the states, two cells per byte.
+     */
+    private void copyRow(byte[] cellTypes, byte[] alive, int row) {
+        int from = row * cols;
+        int to = row * rowBytes;
+        int c = 0;
+        for (; c + 1 < cols; c += 2) {
+            int even = cellTypes[from + c] << 1 | alive[from + c];
+            int odd = cellTypes[from + c + 1] << 1 | alive[from + c + 1];
+            states[to + (c >> 1)] = (byte) (even | odd << 4);
+        }
+        if (c < cols) {
+            states[to + (c >> 1)] = (byte) (cellTypes[from + c] << 1 | alive[from + c]);
+        }
+    }
+
+    /**
+     * Adds the changes of a snapshot that was superseded before the view took it,
+     * so that repainting this one also covers the skipped one.
+     * @param skipped the snapshot published before this one
+     */
+    void includeChanges(BoardSnapshot skipped) {
+        if (skipped.rows != rows || skipped.cols != cols) {
+            changedCells.markAll();
+        } else {
+            changedCells.addAll(skipped.changedCells);
+        }
+    }
+
+    /**
+     * Returns the cells that changed since the previous snapshot the view took.
+     * @return the change bitmap
+     */
+    public ChangedCells getChangedCells() {
+        return changedCells;
+    }
+
+    /**
+     * Checks the living state of the cell at the given coordinates.
+     *
+     * @param row the row index of the target cell
+     * @param col the column index of the target cell
+     * @return true if the cell is alive, false otherwise
+     */
+    public boolean isAlive(int row, int col) {
+        return (getState(row, col) & 1) != 0;
+    }
+
+    /**
+     * Returns the {@code CellType} of the cell at the given coordinates.
+     *
+     * @param row the row index of the target cell
+     * @param col the column index of the target cell
+     * @return the type of the cell
+     */
+    public CellType getCellType(int row, int col) {
+        return CELL_TYPES[getState(row, col) >> 1];
+    }
+
+    /**
+     * Returns the type and living state of the cell at the given coordinates as one
+     * index, as used to look colors up in a palette.
+     *
+     * @param row the row index of the target cell
+     * @param col the column index of the target cell
+     * @return the {@code CellType} ordinal * 2 + 1 if alive
+     */
+    public int getState(int row, int col) {
+        return states[row * rowBytes + (col >> 1)] >> ((col & 1) << 2) & 0xF;
+    }
+
+    /**
+     * Returns the number of rows in the grid.
+     * @return the row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns in the grid.
+     * @return the column count
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns the generation count of the board when the snapshot was taken.
+     * @return the generation count
+     */
+    public int getGenerationCount() {
+        return generationCount;
+    }
+
+    /**
+     * Returns the number of living cells when the snapshot was taken.
+     * @return the number of living cells
+     */
+    public int getLivingCount() {
+        return livingCount;
+    }
+
+    /**
+     * Returns the cumulative number of deceased cells when the snapshot was taken.
+     * @return the total number of deceased cells
+     */
+    public int getDeceasedCount() {
+        return deceasedCount;
+    }
+
+    /**
+     * Returns the period with which the board was repeating when the snapshot was taken.
+     * @return 1 for a still life, the period of an oscillator, or 0 if no repetition was found
+     */
+    public int getPeriod() {
+        return period;
+    }
+
+    /**
+     * Returns the oldest generation the board could be rewound to when the snapshot was taken.
+     * @return the generation, or -1 if nothing was recorded
+     */
+    public int getHistoryStart() {
+        return historyStart;
+    }
+
+    /**
+     * Returns the newest generation the board could be moved to when the snapshot was taken.
+     * @return the generation, or -1 if nothing was recorded
+     */
+    public int getHistoryEnd() {
+        return historyEnd;
+    }
+
+    /**
+     * Returns the name of the engine that computes the board's generations.
+     * @return the engine name, see {@code LifeLogic.getActiveEngineName}
+     */
+    public String getEngineName() {
+        return engineName;
+    }
+}
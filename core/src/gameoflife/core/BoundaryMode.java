@@ -0,0 +1,36 @@
+package gameoflife.core;
+
+/**
+ * What lies beyond the edges of a bounded board, as seen by the cells next to them.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public enum BoundaryMode {
+    /** Off-board cells are dead. */
+    DEAD,
+    /** The board wraps around: the cells past the right edge are those of the left edge,
+     * and the cells past the bottom edge are those of the top edge. */
+    TOROIDAL,
+    /** The board is reflected at its edges: the cell past an edge is the edge cell itself. */
+    MIRRORED;
+
+    /**
+     * Maps a row or column index, which may lie past the edges, onto the board.
+     * @param index the index, from any distance past the edges
+     * @param size  the number of rows or columns
+     * @return the index on the board, or -1 for a dead off-board cell
+     */
+    int map(int index, int size) {
+        if (index >= 0 && index < size) return index;
+        return switch (this) {
+            case DEAD -> -1;
+            case TOROIDAL -> Math.floorMod(index, size);
+            case MIRRORED -> {
+                int folded = Math.floorMod(index, 2 * size);
+                yield folded < size ? folded : 2 * size - 1 - folded;
+            }
+        };
+    }
+}
@@ -1,4 +1,4 @@
-package gameoflife;
+package gameoflife.core;
 
 /**
  * Enumeration defining the specific types of entities that can exist
@@ -15,5 +15,18 @@ public enum CellType {
     /** Represents an OrganicCell of type Plant. */
     PLANT,
     /** Represents an InorganicCell of type Wall. */
-    WALL
+    WALL;
+
+    /**
+     * Creates a new logical cell object of this type.
+     * @param isAlive the initial living state (walls always start dead)
+     * @return a new {@code AbstractCell} matching this type
+     */
+    public AbstractCell createCell(boolean isAlive) {
+        return switch (this) {
+            case ANIMAL -> new AnimalCell(isAlive);
+            case PLANT -> new PlantCell(isAlive);
+            case WALL -> new WallCell();
+        };
+    }
 }
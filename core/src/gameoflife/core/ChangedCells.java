@@ -0,0 +1,230 @@
+package gameoflife.core;
+
+import java.util.Arrays;
+
+/**
+ * Bitmap of the cells whose state or type changed since it was last cleared.
+ * Each board row is stored in its own run of {@code long} words, 64 cells per word,
+ * so engines stepping disjoint row bands can record changes concurrently, and
+ * {@code BitboardEngine} can record a whole word of changes at once. When the board
+ * is reallocated or rewritten wholesale, the bitmap is flagged as fully changed
+ * instead of having every bit set. A flag per row marks the rows holding changes, so
+ * clearing, merging and visiting the bitmap cost in proportion to the changed rows
+ * rather than to the board.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class ChangedCells {
+    /**
+     * Receives the coordinates of changed cells.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * Called once for every changed cell.
+         * @param row the row index of the cell
+         * @param col the column index of the cell
+         */
+        void visit(int row, int col);
+    }
+
+    private int rows;
+    private int cols;
+    private int wordsPerRow;
+    private long[] words;
+    // One flag per row that may hold set bits; bytes, so bands can set them concurrently
+    private boolean[] changedRows;
+    private boolean allChanged;
+    private boolean empty = true;
+
+    /**
+     * Constructs a bitmap for a board, initially flagged as fully changed.
+     *
+     * @param rows the number of rows in the board
+     * @param cols the number of columns in the board
+     */
+    public ChangedCells(int rows, int cols) {
+        resize(rows, cols);
+    }
+
+    /**
+     * Resizes the bitmap for new board dimensions and flags it as fully changed.
+     *
+     * @param rows the number of rows in the board
+     * @param cols the number of columns in the board
+     */
+    public void resize(int rows, int cols) {
+        if (words == null || rows != this.rows || cols != this.cols) {
+            int newWordsPerRow = (cols + 63) >>> 6;
+            words = new long[rows * newWordsPerRow];
+            changedRows = new boolean[rows];
+            this.rows = rows;
+            this.cols = cols;
+            wordsPerRow = newWordsPerRow;
+        }
+        markAll();
+    }
+
+    /**
+     * Records that a single cell changed.
+     *
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     */
+    public void mark(int row, int col) {
+        words[row * wordsPerRow + (col >>> 6)] |= 1L << col;
+        changedRows[row] = true;
+        empty = false;
+    }
+
+    /**
+     * Records changes to up to 64 cells of a row at once. Bit {@code b} of
+     * {@code bits} stands for column {@code word * 64 + b}.
+     *
+     * @param row  the row index of the cells
+     * @param word the index of the 64-cell word within the row
+     * @param bits the changed cells within the word
+     */
+    void markWord(int row, int word, long bits) {
+        if (bits != 0) {
+            words[row * wordsPerRow + word] |= bits;
+            changedRows[row] = true;
+            empty = false;
+        }
+    }
+
+    /**
+     * Records that every cell may have changed, e.g. after the board was reallocated.
+     */
+    public void markAll() {
+        allChanged = true;
+        empty = false;
+    }
+
+    /**
+     * Adds the changes recorded in another bitmap of the same dimensions.
+     * @param other the changes to add
+     */
+    public void addAll(ChangedCells other) {
+        if (other.rows != rows || other.cols != cols) {
+            throw new IllegalArgumentException("Changed cells of a " + other.rows + "x" + other.cols
+                    + " board cannot be added to a " + rows + "x" + cols + " board");
+        }
+        if (other.allChanged) {
+            markAll();
+        } else if (!other.empty) {
+            for (int r = 0; r < rows; r++) {
+                if (!other.changedRows[r]) continue;
+                int rowStart = r * wordsPerRow;
+                for (int i = rowStart; i < rowStart + wordsPerRow; i++) {
+                    words[i] |= other.words[i];
+                }
+                changedRows[r] = true;
+            }
+            empty = false;
+        }
+    }
+
+    /**
+     * Forgets every recorded change.
+     */
+    public void clear() {
+        if (!empty) {
+            for (int r = 0; r < rows; r++) {
+                if (changedRows[r]) {
+                    Arrays.fill(words, r * wordsPerRow, (r + 1) * wordsPerRow, 0);
+                    changedRows[r] = false;
+                }
+            }
+        }
+        allChanged = false;
+        empty = true;
+    }
+
+    /**
+     * Checks whether every cell must be treated as changed.
+     * @return true if the bitmap is flagged as fully changed
+     */
+    public boolean isAllChanged() {
+        return allChanged;
+    }
+
+    /**
+     * Checks whether no change was recorded.
+     * @return true if nothing changed
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Counts the changed cells.
+     * @return the number of changed cells, or every cell when flagged as fully changed
+     */
+    public int count() {
+        if (allChanged) {
+            return rows * cols;
+        }
+        int count = 0;
+        if (!empty) {
+            for (int r = 0; r < rows; r++) {
+                if (!changedRows[r]) continue;
+                for (int i = r * wordsPerRow; i < (r + 1) * wordsPerRow; i++) {
+                    count += Long.bitCount(words[i]);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Visits every changed cell in row-major order. Cells are not visited when the
+     * bitmap is flagged as fully changed; check {@link #isAllChanged} first.
+     *
+     * @param visitor the visitor to call for every changed cell
+     */
+    public void forEach(Visitor visitor) {
+        if (empty) {
+            return;
+        }
+        for (int r = 0; r < rows; r++) {
+            if (!changedRows[r]) continue;
+            int rowStart = r * wordsPerRow;
+            for (int w = 0; w < wordsPerRow; w++) {
+                long bits = words[rowStart + w];
+                while (bits != 0) {
+                    visitor.visit(r, (w << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a row may hold changed cells. Always true for every row while the
+     * bitmap is flagged as fully changed.
+     * @param row the row index
+     * @return false if no cell of the row changed
+     */
+    boolean isRowChanged(int row) {
+        return allChanged || changedRows[row];
+    }
+
+    /**
+     * Returns the number of rows in the board.
+     * @return the row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns in the board.
+     * @return the column count
+     */
+    public int getCols() {
+        return cols;
+    }
+}
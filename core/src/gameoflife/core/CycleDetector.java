@@ -0,0 +1,283 @@
+package gameoflife.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Detects still lifes and oscillators by hashing the board after every generation.
+ * The hash is Zobrist-style: the XOR of a pseudo-random key for every cell that is not
+ * an animal and for every word of eight alive cells, chosen by the word's position and
+ * value. After a step, only the words in rows flagged by {@link ChangedCells} whose value
+ * differs are rekeyed. The hashes of the last {@link #MAX_PERIOD} generations are kept in
+ * a ring; finding the current hash in it means the board repeats with that period.
+ *
+ * <pre>
+ * Keys:            Derived from the position (and word value) with a multiply-xorshift
+ * mix, so no key table is allocated however large the board is.
+ * Rows the step left alone are skipped outright, so a glider
+ * on a huge board costs a few words. Large boards are rekeyed
+ * in bands on the common {@code ForkJoinPool}, like {@code ParallelEngine}.
+ * Invalidation:    Edits of single cells update the hash directly; anything that
+ * rewrites the planes wholesale forgets the hash and the ring, and
+ * the hash is recomputed after the next step.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+final class CycleDetector {
+    /** The longest period that can be detected. */
+    static final int MAX_PERIOD = 64;
+
+    private static final long SEED = 0x5DEECE66DL;
+    private static final int MIN_BAND_CELLS = 1 << 16;
+    // Reads eight cells of an alive plane at once
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private long hash;
+    private boolean hashValid = false;
+
+    // Ring of the most recent generations, indexed by generation % MAX_PERIOD
+    private final long[] recentHashes = new long[MAX_PERIOD];
+    private final int[] recentGenerations = new int[MAX_PERIOD];
+    private final int[] recentDeceased = new int[MAX_PERIOD];
+    private int recorded = 0;
+    private int lastGeneration;
+
+    private int period = 0;
+    private int cycleStart = -1;
+    private int deathsPerCycle = 0;
+
+    /**
+     * Forgets the hash and the recorded generations, e.g. after the planes were rewritten.
+     */
+    void invalidate() {
+        hashValid = false;
+        recorded = 0;
+        period = 0;
+        cycleStart = -1;
+    }
+
+    /**
+     * Updates the hash for a cell that is about to be edited. A repetition found before
+     * the edit no longer holds.
+     *
+     * @param alive    the alive plane, before the edit
+     * @param index    the cell index
+     * @param oldType  the previous {@code CellType} ordinal
+     * @param oldAlive the previous alive state (0 or 1)
+     * @param newType  the new {@code CellType} ordinal
+     * @param newAlive the new alive state (0 or 1)
+     */
+    void cellEdited(byte[] alive, int index, int oldType, int oldAlive, int newType, int newAlive) {
+        if (hashValid) {
+            int base = index & ~7;
+            int shift = (index & 7) * 8;
+            long oldWord = word(alive, base);
+            long newWord = (oldWord & ~(0xFFL << shift)) | ((long) newAlive << shift);
+            hash ^= wordKey(base, oldWord) ^ wordKey(base, newWord)
+                    ^ typeKey(index, oldType) ^ typeKey(index, newType);
+        }
+        recorded = 0;
+        period = 0;
+        cycleStart = -1;
+    }
+
+    /**
+     * Updates the hash with the cells that flipped during a step and looks the new hash
+     * up among the recent generations.
+     *
+     * @param logic            the board, after the step
+     * @param previous         the alive plane before the step
+     * @param previousDeceased the deceased count before the step
+     */
+    void afterStep(LifeLogic logic, byte[] previous, int previousDeceased) {
+        byte[] alive = logic.alivePlane();
+        int generation = logic.getGenerationCount();
+        if (recorded == 0) {
+            // Start the ring with the board the step began from
+            if (!hashValid) {
+                hash = fullHash(logic.cellTypePlane(), previous);
+                hashValid = true;
+            }
+            record(generation - 1, previousDeceased);
+        }
+
+        hash ^= flippedKeys(previous, alive, logic.getChangedCells(), logic.getCols());
+
+        int deceased = logic.getDeceasedCount();
+        int found = -1;
+        for (int i = 0; i < Math.min(recorded, MAX_PERIOD); i++) {
+            int slot = Math.floorMod(generation - 1 - i, MAX_PERIOD);
+            if (recentGenerations[slot] == generation - 1 - i && recentHashes[slot] == hash) {
+                found = slot;
+                break;
+            }
+        }
+        if (found >= 0) {
+            int newPeriod = generation - recentGenerations[found];
+            if (newPeriod != period) {
+                period = newPeriod;
+                cycleStart = recentGenerations[found];
+                deathsPerCycle = deceased - recentDeceased[found];
+            }
+        } else {
+            period = 0;
+            cycleStart = -1;
+        }
+
+        record(generation, deceased);
+    }
+
+    private void record(int generation, int deceased) {
+        int slot = Math.floorMod(generation, MAX_PERIOD);
+        recentHashes[slot] = hash;
+        recentGenerations[slot] = generation;
+        recentDeceased[slot] = deceased;
+        lastGeneration = generation;
+        recorded++;
+    }
+
+    /**
+     * Shifts the recorded generations after whole cycles were skipped without stepping.
+     * @param generations the generations skipped, a multiple of the period
+     * @param deaths      the deaths added to the deceased count by the skipped cycles
+     */
+    void skip(int generations, int deaths) {
+        long[] hashes = recentHashes.clone();
+        int[] generationsAt = recentGenerations.clone();
+        int[] deceasedAt = recentDeceased.clone();
+        for (int i = 0; i < Math.min(recorded, MAX_PERIOD); i++) {
+            int from = Math.floorMod(lastGeneration - i, MAX_PERIOD);
+            int to = Math.floorMod(lastGeneration + generations - i, MAX_PERIOD);
+            recentHashes[to] = hashes[from];
+            recentGenerations[to] = generationsAt[from] + generations;
+            recentDeceased[to] = deceasedAt[from] + deaths;
+        }
+        lastGeneration += generations;
+    }
+
+    /**
+     * Returns the period of the board's repetition.
+     * @return 1 for a still life, the period of an oscillator, or 0 if no repetition was found
+     */
+    int getPeriod() {
+        return period;
+    }
+
+    /**
+     * Returns the first generation of the detected cycle.
+     * @return the generation, or -1 if no repetition was found
+     */
+    int getCycleStart() {
+        return cycleStart;
+    }
+
+    /**
+     * Returns the number of cells that die over one period of the detected cycle.
+     * @return the deaths per cycle
+     */
+    int getDeathsPerCycle() {
+        return deathsPerCycle;
+    }
+
+    /**
+     * Returns the change of the alive hash between two planes, splitting large planes
+     * into bands whose changes are XORed together. Only rows flagged in {@code changed}
+     * are compared, so it must flag every cell that flipped.
+     */
+    private static long flippedKeys(byte[] before, byte[] after, ChangedCells changed, int cols) {
+        int n = before.length;
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int bandCount = Math.min(pool.getParallelism(), n / MIN_BAND_CELLS);
+        if (bandCount < 2) {
+            return flippedKeys(before, after, changed, cols, 0, n);
+        }
+
+        List<ForkJoinTask<Long>> bands = new ArrayList<>(bandCount);
+        for (int band = 0; band < bandCount; band++) {
+            int from = (int) ((long) n * band / bandCount) & ~7;
+            int to = band == bandCount - 1 ? n : (int) ((long) n * (band + 1) / bandCount) & ~7;
+            bands.add(pool.submit(() -> flippedKeys(before, after, changed, cols, from, to)));
+        }
+        long h = 0;
+        for (ForkJoinTask<Long> band : bands) {
+            h ^= band.join();
+        }
+        return h;
+    }
+
+    /**
+     * Returns the change of the alive hash between two planes over the words starting
+     * from {@code from} (a multiple of 8) up to {@code to}. Each word is rekeyed at most
+     * once, even when it spans several changed rows, and only if its value differs.
+     */
+    private static long flippedKeys(byte[] before, byte[] after, ChangedCells changed, int cols,
+                                    int from, int to) {
+        long h = 0;
+        int base = from;
+        for (int r = from / cols, lastRow = (to - 1) / cols; r <= lastRow; r++) {
+            if (!changed.isRowChanged(r)) continue;
+            // Words already rekeyed for the previous row are not visited again
+            base = Math.max(base, (r * cols) & ~7);
+            int end = Math.min(to, (r + 1) * cols);
+            for (; base < end; base += 8) {
+                long oldWord = word(before, base);
+                long newWord = word(after, base);
+                if (oldWord != newWord) {
+                    h ^= wordKey(base, oldWord) ^ wordKey(base, newWord);
+                }
+            }
+        }
+        return h;
+    }
+
+    private static long fullHash(byte[] cellTypes, byte[] alive) {
+        long h = 0;
+        for (int base = 0; base < alive.length; base += 8) {
+            h ^= wordKey(base, word(alive, base));
+        }
+        for (int i = 0; i < cellTypes.length; i++) {
+            h ^= typeKey(i, cellTypes[i]);
+        }
+        return h;
+    }
+
+    /**
+     * Reads the eight cells of a plane starting at {@code base}, padding past its end with 0.
+     */
+    private static long word(byte[] plane, int base) {
+        if (base + 8 <= plane.length) {
+            return (long) LONG_VIEW.get(plane, base);
+        }
+        long word = 0;
+        for (int i = base; i < plane.length; i++) {
+            word |= (long) (plane[i] & 0xFF) << ((i - base) * 8);
+        }
+        return word;
+    }
+
+    private static long wordKey(int base, long word) {
+        return mix(word ^ (base + SEED) * 0x9E3779B97F4A7C15L);
+    }
+
+    private static long typeKey(int index, int cellType) {
+        return cellType == 0 ? 0 : mix((index * 4L + cellType) * 0xC2B2AE3D27D4EB4FL + ~SEED);
+    }
+
+    /**
+     * Scrambles a value with a multiply-xorshift mix, which is a bijection, so distinct
+     * inputs never share a key.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 32)) * 0xD6E8FEB86659FD93L;
+        z = (z ^ (z >>> 32)) * 0xD6E8FEB86659FD93L;
+        return z ^ (z >>> 32);
+    }
+}
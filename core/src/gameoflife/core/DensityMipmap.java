@@ -0,0 +1,264 @@
+package gameoflife.core;
+
+import java.util.Arrays;
+
+/**
+ * Counts of the cells in every state per square block of a board, at every power-of-two
+ * block size from 4x4 up to one block covering the whole board. A view zoomed out so
+ * that a pixel covers many cells reads the level whose blocks are about a pixel in
+ * size, so drawing costs the same per pixel however large the board is.
+ *
+ * <pre>
+ * States:          Indexed like a palette, by {@code CellType} ordinal * 2 + 1 if
+ * alive. Dead animals are not stored but derived from the block area.
+ * Updates:         {@link #update} only recounts the 4x4 blocks holding a cell in the
+ * snapshot's changed cells and adds the difference to every coarser
+ * level, so following a running board costs in proportion to its
+ * changes. A snapshot flagged as fully changed is counted from scratch.
+ * Memory:          4x4 and 8x8 blocks keep their counts in bytes, coarser levels in
+ * ints, about half a byte per cell in all. Levels of 2x2 blocks
+ * would cost as much as the board itself, and a view averages the at
+ * most 16 cells under a pixel at that scale directly instead.
+ * Threads:         Not synchronized; use it from the thread that paints.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public final class DensityMipmap {
+    /** The finest level, whose blocks are 2^MIN_LEVEL cells on a side. */
+    public static final int MIN_LEVEL = 2;
+
+    private static final int STATES = CellType.values().length * 2;
+    // Every state but the dead animal, which is index 0
+    private static final int CHANNELS = STATES - 1;
+    // Levels whose block counts fit in a byte
+    private static final int MAX_BYTE_LEVEL = 3;
+
+    private int rows;
+    private int cols;
+    private Level[] levels = new Level[0];
+    private boolean valid = false;
+
+    // One bit per block of the finest level that holds a changed cell
+    private long[] dirty = new long[0];
+    private final ChangedCells.Visitor markDirty = this::markDirty;
+    private final int[] recount = new int[CHANNELS];
+
+    /**
+     * The counts of one level, CHANNELS per block in row-major block order.
+     */
+    private static final class Level {
+        final int blockRows;
+        final int blockCols;
+        // Exactly one of the two is allocated
+        final byte[] smallCounts;
+        final int[] largeCounts;
+
+        Level(int shift, int rows, int cols) {
+            blockRows = ((rows - 1) >> shift) + 1;
+            blockCols = ((cols - 1) >> shift) + 1;
+            int length = blockRows * blockCols * CHANNELS;
+            smallCounts = shift <= MAX_BYTE_LEVEL ? new byte[length] : null;
+            largeCounts = shift <= MAX_BYTE_LEVEL ? null : new int[length];
+        }
+
+        int get(int index) {
+            return smallCounts != null ? smallCounts[index] : largeCounts[index];
+        }
+
+        void set(int index, int count) {
+            if (smallCounts != null) smallCounts[index] = (byte) count;
+            else largeCounts[index] = count;
+        }
+
+        void clear() {
+            if (smallCounts != null) Arrays.fill(smallCounts, (byte) 0);
+            else Arrays.fill(largeCounts, 0);
+        }
+    }
+
+    /* ---------- UPDATES ---------- */
+    /**
+     * Brings the counts up to date with a snapshot, recounting only the blocks of its
+     * changed cells. The snapshot must follow the one the counts were last updated
+     * with, so its changed cells cover every difference; otherwise call {@link #invalidate}
+     * first.
+     * @param snapshot the board to count
+     */
+    public void update(BoardSnapshot snapshot) {
+        ChangedCells changes = snapshot.getChangedCells();
+        if (!valid || snapshot.getRows() != rows || snapshot.getCols() != cols || changes.isAllChanged()) {
+            rebuild(snapshot);
+            return;
+        }
+        changes.forEach(markDirty);
+
+        Level finest = levels[0];
+        for (int w = 0; w < dirty.length; w++) {
+            long bits = dirty[w];
+            while (bits != 0) {
+                int block = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                recountBlock(snapshot, finest, block / finest.blockCols, block % finest.blockCols);
+            }
+            dirty[w] = 0;
+        }
+    }
+
+    /**
+     * Counts every block of a snapshot from scratch.
+     * @param snapshot the board to count
+     */
+    public void rebuild(BoardSnapshot snapshot) {
+        if (snapshot.getRows() != rows || snapshot.getCols() != cols || levels.length == 0) {
+            allocate(snapshot.getRows(), snapshot.getCols());
+        }
+
+        Level finest = levels[0];
+        finest.clear();
+        int[] counts = new int[finest.blockCols * CHANNELS];
+        for (int blockRow = 0; blockRow < finest.blockRows; blockRow++) {
+            Arrays.fill(counts, 0);
+            int endRow = Math.min(rows, (blockRow + 1) << MIN_LEVEL);
+            for (int r = blockRow << MIN_LEVEL; r < endRow; r++) {
+                for (int c = 0; c < cols; c++) {
+                    int state = snapshot.getState(r, c);
+                    if (state != 0) {
+                        counts[(c >> MIN_LEVEL) * CHANNELS + state - 1]++;
+                    }
+                }
+            }
+            int rowStart = blockRow * finest.blockCols * CHANNELS;
+            for (int i = 0; i < counts.length; i++) {
+                finest.set(rowStart + i, counts[i]);
+            }
+        }
+
+        for (int l = 1; l < levels.length; l++) {
+            Level fine = levels[l - 1];
+            Level coarse = levels[l];
+            coarse.clear();
+            for (int blockRow = 0; blockRow < fine.blockRows; blockRow++) {
+                for (int blockCol = 0; blockCol < fine.blockCols; blockCol++) {
+                    int from = (blockRow * fine.blockCols + blockCol) * CHANNELS;
+                    int to = ((blockRow >> 1) * coarse.blockCols + (blockCol >> 1)) * CHANNELS;
+                    for (int channel = 0; channel < CHANNELS; channel++) {
+                        coarse.set(to + channel, coarse.get(to + channel) + fine.get(from + channel));
+                    }
+                }
+            }
+        }
+        valid = true;
+    }
+
+    /**
+     * Forgets the counts, so the next {@link #update} counts the board from scratch.
+     * Call it when snapshots were painted without updating the counts.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    private void allocate(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        int maxLevel = MIN_LEVEL;
+        while ((1 << maxLevel) < Math.max(rows, cols)) {
+            maxLevel++;
+        }
+        levels = new Level[maxLevel - MIN_LEVEL + 1];
+        for (int l = 0; l < levels.length; l++) {
+            levels[l] = new Level(MIN_LEVEL + l, rows, cols);
+        }
+        dirty = new long[(levels[0].blockRows * levels[0].blockCols + 63) >>> 6];
+    }
+
+    private void markDirty(int row, int col) {
+        int block = (row >> MIN_LEVEL) * levels[0].blockCols + (col >> MIN_LEVEL);
+        dirty[block >>> 6] |= 1L << block;
+    }
+
+    /**
+     * Recounts a block of the finest level and adds the differences to its ancestors.
+     */
+    private void recountBlock(BoardSnapshot snapshot, Level finest, int blockRow, int blockCol) {
+        Arrays.fill(recount, 0);
+        int endRow = Math.min(rows, (blockRow + 1) << MIN_LEVEL);
+        int endCol = Math.min(cols, (blockCol + 1) << MIN_LEVEL);
+        for (int r = blockRow << MIN_LEVEL; r < endRow; r++) {
+            for (int c = blockCol << MIN_LEVEL; c < endCol; c++) {
+                int state = snapshot.getState(r, c);
+                if (state != 0) {
+                    recount[state - 1]++;
+                }
+            }
+        }
+
+        int index = (blockRow * finest.blockCols + blockCol) * CHANNELS;
+        for (int channel = 0; channel < CHANNELS; channel++) {
+            int delta = recount[channel] - finest.get(index + channel);
+            if (delta == 0) continue;
+            finest.set(index + channel, recount[channel]);
+            for (int l = 1; l < levels.length; l++) {
+                Level level = levels[l];
+                int i = ((blockRow >> l) * level.blockCols + (blockCol >> l)) * CHANNELS + channel;
+                level.set(i, level.get(i) + delta);
+            }
+        }
+    }
+
+    /* ---------- READING ---------- */
+    /**
+     * Returns the coarsest level, whose single block covers the whole board.
+     * @return the level, at least {@link #MIN_LEVEL}
+     */
+    public int getMaxLevel() {
+        return MIN_LEVEL + levels.length - 1;
+    }
+
+    /**
+     * Checks whether the counts match the snapshot they were last updated with.
+     * @return false before the first update or after {@link #invalidate}
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Reads the number of cells in every state within a block. Blocks on the right and
+     * bottom edges may extend past the board and hold fewer cells.
+     *
+     * @param level    the level, from {@link #MIN_LEVEL} to {@link #getMaxLevel}
+     * @param blockRow the block row, the row of its first cell shifted right by the level
+     * @param blockCol the block column, likewise
+     * @param states   receives the count of each state, indexed by {@code CellType}
+     *                 ordinal * 2 + 1 if alive
+     * @return the number of board cells in the block
+     * @throws IllegalStateException if the counts are not valid
+     * @throws IllegalArgumentException if there is no such level
+     */
+    public int read(int level, int blockRow, int blockCol, int[] states) {
+        if (!valid) {
+            throw new IllegalStateException("The density mipmap has not been built");
+        }
+        if (level < MIN_LEVEL || level > getMaxLevel()) {
+            throw new IllegalArgumentException("Level " + level + " outside " + MIN_LEVEL + ".." + getMaxLevel());
+        }
+        Level counts = levels[level - MIN_LEVEL];
+        int height = Math.min(1 << level, rows - (blockRow << level));
+        int width = Math.min(1 << level, cols - (blockCol << level));
+        int area = height * width;
+
+        int index = (blockRow * counts.blockCols + blockCol) * CHANNELS;
+        int others = 0;
+        for (int channel = 0; channel < CHANNELS; channel++) {
+            int count = counts.get(index + channel);
+            states[channel + 1] = count;
+            others += count;
+        }
+        states[0] = area - others;
+        return area;
+    }
+}
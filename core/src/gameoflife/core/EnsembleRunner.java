@@ -0,0 +1,229 @@
+package gameoflife.core;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless command-line runner for statistical sweeps. Reads an {@code EnsembleSpec},
+ * generates the random board of every run, steps it until it settles into a still
+ * life or an oscillator or reaches the generation cap, and streams a CSV summary of
+ * every run to the results file as runs finish.
+ *
+ * <pre>
+ * Usage:           EnsembleRunner [options] &lt;spec&gt; &lt;results&gt;
+ *
+ * Options:         --threads        the number of runs computed at once   (default: one per processor)
+ * --replay         write the initial board of one run to &lt;results&gt; instead,
+ * in {@code RleFormat} when it ends in {@code .rle}, or else in {@code PlaintextFormat}
+ * Threads:         Runs share nothing, so each is stepped on a single thread with a
+ * sequential engine and the throughput grows with the platform threads
+ * of the pool. At most twice as many runs as threads are in flight, so
+ * memory stays bounded however many runs the sweep holds.
+ * Results:         One row per run, in the order they finish; the run column gives
+ * their order in the sweep. A run that fails is reported on stderr
+ * and left out, and the sweep carries on with the others.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public final class EnsembleRunner {
+    private static final String USAGE = """
+            Usage: EnsembleRunner [options] <spec> <results>
+              --threads <n>     number of runs computed at once (default: one per processor)
+              --replay <run>    write the initial board of a run to <results> instead of running the sweep""";
+    private static final String HEADER = "run,seed,rows,cols,density,animals,plants,walls,"
+            + "generations,period,living,living_animals,living_plants,deceased,millis";
+
+    private EnsembleRunner() {
+    }
+
+    /**
+     * Runs the command line.
+     * @param args the command-line arguments
+     * @throws IOException if the results cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int replay = -1;
+        String[] positional = new String[2];
+        int positionalCount = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads" -> {
+                    if (++i == args.length) usage("Missing value for --threads");
+                    threads = parseCount(args[i], "--threads");
+                    if (threads < 1) usage("--threads must be at least 1");
+                }
+                case "--replay" -> {
+                    if (++i == args.length) usage("Missing value for --replay");
+                    replay = parseCount(args[i], "--replay");
+                }
+                case "-h", "--help" -> {
+                    System.out.println(USAGE);
+                    return;
+                }
+                default -> {
+                    if (args[i].startsWith("--")) usage("Unknown option " + args[i]);
+                    if (positionalCount == positional.length) usage("Too many arguments");
+                    positional[positionalCount++] = args[i];
+                }
+            }
+        }
+        if (positionalCount < 2) usage("Missing spec or results file");
+
+        EnsembleSpec spec;
+        try {
+            spec = EnsembleSpec.load(Path.of(positional[0]));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Cannot load " + positional[0] + ": " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        Path output = Path.of(positional[1]);
+
+        if (replay >= 0) {
+            if (replay >= spec.getRunCount()) usage("The sweep has no run " + replay);
+            replay(spec.getRun(replay), output);
+            return;
+        }
+
+        long start = System.nanoTime();
+        long cellGenerations = runAll(spec, threads, output);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf(Locale.ROOT, "runs         %d%n", spec.getRunCount());
+        System.out.printf(Locale.ROOT, "threads      %d%n", threads);
+        System.out.printf(Locale.ROOT, "elapsed      %.3f s%n", seconds);
+        System.out.printf(Locale.ROOT, "runs/s       %.4g%n", seconds > 0 ? spec.getRunCount() / seconds : 0);
+        System.out.printf(Locale.ROOT, "throughput   %.4g cell-updates/s%n", seconds > 0 ? cellGenerations / seconds : 0);
+    }
+
+    /**
+     * Runs every run of the sweep on a pool of platform threads and writes their
+     * summaries as they finish. Failed runs are reported on stderr instead.
+     * @return the total number of cell updates computed
+     */
+    private static long runAll(EnsembleSpec spec, int threads, Path output) throws IOException {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "ensemble-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<Summary> completed = new ExecutorCompletionService<>(pool);
+        Map<Future<Summary>, EnsembleSpec.Run> inFlight = new HashMap<>();
+        long cellGenerations = 0;
+        int failed = 0;
+
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+
+            int submitted = 0;
+            int maxInFlight = 2 * threads;
+            for (int finished = 0; finished < spec.getRunCount(); finished++) {
+                while (submitted < spec.getRunCount() && submitted - finished < maxInFlight) {
+                    EnsembleSpec.Run run = spec.getRun(submitted++);
+                    inFlight.put(completed.submit(() -> simulate(spec, run)), run);
+                }
+
+                Future<Summary> done = completed.take();
+                EnsembleSpec.Run run = inFlight.remove(done);
+                Summary summary;
+                try {
+                    summary = done.get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    System.err.println("Run " + run.index() + " (seed " + run.seed() + ") failed: " + e.getCause());
+                    continue;
+                }
+                cellGenerations += (long) run.rows() * run.cols() * summary.generations();
+                writer.write(summary.toCsv());
+                writer.newLine();
+                writer.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for runs", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        if (failed > 0) {
+            System.err.println(failed + " of " + spec.getRunCount() + " runs failed");
+        }
+        return cellGenerations;
+    }
+
+    /**
+     * Steps the board of a run until it settles or reaches the generation cap.
+     * @return the summary of the run
+     */
+    private static Summary simulate(EnsembleSpec spec, EnsembleSpec.Run run) {
+        LifeLogic logic = run.createBoard();
+        spec.configure(logic);
+
+        long start = System.nanoTime();
+        while (logic.getGenerationCount() < spec.getGenerations() && logic.getPeriod() == 0) {
+            logic.calculateNextGeneration();
+        }
+        long nanos = System.nanoTime() - start;
+
+        return new Summary(run, logic.getGenerationCount(), logic.getPeriod(), logic.getLivingCount(),
+                logic.getLivingCount(CellType.ANIMAL), logic.getLivingCount(CellType.PLANT),
+                logic.getDeceasedCount(), nanos);
+    }
+
+    /**
+     * The outcome of a run.
+     */
+    private record Summary(EnsembleSpec.Run run, int generations, int period, int living, int animals, int plants,
+                           int deceased, long nanos) {
+
+        String toCsv() {
+            return String.format(Locale.ROOT, "%d,%d,%d,%d,%s,%s,%s,%s,%d,%d,%d,%d,%d,%d,%.3f",
+                    run.index(), run.seed(), run.rows(), run.cols(), run.density(),
+                    run.animals(), run.plants(), run.walls(),
+                    generations, period, living, animals, plants, deceased, nanos / 1e6);
+        }
+    }
+
+    private static void replay(EnsembleSpec.Run run, Path path) throws IOException {
+        LifeLogic logic = run.createBoard();
+        if (path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".rle")) {
+            RleFormat.write(logic, path);
+        } else {
+            PlaintextFormat.write(logic, path);
+        }
+    }
+
+    private static int parseCount(String value, String option) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            usage("Invalid value for " + option + ": " + value);
+            return 0;
+        }
+    }
+
+    private static void usage(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(2);
+    }
+}
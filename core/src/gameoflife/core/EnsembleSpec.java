@@ -0,0 +1,309 @@
+package gameoflife.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * A parameter sweep of random boards for an {@code EnsembleRunner}, read from a
+ * properties file. Every combination of size, density and cell type mix is run
+ * {@code runs} times, each from its own seed.
+ *
+ * <pre>
+ * Keys:            seed         the seed of the sweep                       (default: 0)
+ * runs         runs per combination                        (default: 1)
+ * sizes        e.g. 64x64, 256x128, or 512 for 512x512     (default: 64x64)
+ * densities    chance of a cell starting alive, e.g. 0.2, 0.5   (default: 0.5)
+ * mixes        animal:plant:wall weights, e.g. 1:0:0, 6:3:1     (default: 1:0:0)
+ * generations  the most generations a run may take         (default: 10000)
+ * engine       scalar|bitboard|vector|tiles|neighbors|ltl  (default: bitboard)
+ * boundary     dead|toroidal|mirrored                      (default: dead)
+ * rules        a {@code RuleRegistry} file, relative to the sweep file
+ * Seeds:           The seed of run i is the i-th value a {@code SplittableRandom}
+ * seeded with the sweep's seed would draw, computed directly from the
+ * seed and the index, so no per-run state is kept. The board is
+ * generated from that seed alone, so {@link Run#createBoard} rebuilds
+ * any run from the results without replaying the sweep.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public final class EnsembleSpec {
+    private static final Set<String> KEYS = Set.of("seed", "runs", "sizes", "densities", "mixes", "generations",
+            "engine", "boundary", "rules");
+    private static final List<String> ENGINES = List.of("scalar", "bitboard", "vector", "tiles", "neighbors", "ltl");
+    // The seed increment of SplittableRandom
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final int runsPerCombination;
+    private final List<int[]> sizes;
+    private final List<Double> densities;
+    private final List<double[]> mixes;
+    private final int generations;
+    private final String engineName;
+    private final BoundaryMode boundary;
+    // Null for the built-in rules
+    private final RuleRegistry rules;
+    private final int runCount;
+
+    /**
+     * One board of the sweep.
+     *
+     * @param index   the position of the run in the sweep
+     * @param seed    the seed the board is generated from
+     * @param rows    the number of rows
+     * @param cols    the number of columns
+     * @param density the chance of a non-wall cell starting alive
+     * @param animals the share of animal cells
+     * @param plants  the share of plant cells
+     * @param walls   the share of wall cells
+     */
+    public record Run(int index, long seed, int rows, int cols, double density, double animals, double plants,
+                      double walls) {
+
+        /**
+         * Generates the initial board of the run. The same run always yields the same board.
+         * @return a new board at generation 0
+         */
+        public LifeLogic createBoard() {
+            LifeLogic logic = new LifeLogic(rows, cols);
+            byte[] cellTypes = logic.cellTypePlane();
+            byte[] alive = logic.alivePlane();
+            SplittableRandom random = new SplittableRandom(seed);
+            double plantsBelow = 1 - walls;
+            int living = 0;
+            for (int index = 0; index < cellTypes.length; index++) {
+                double type = random.nextDouble();
+                if (type < animals) {
+                    cellTypes[index] = (byte) CellType.ANIMAL.ordinal();
+                } else if (type < plantsBelow) {
+                    cellTypes[index] = (byte) CellType.PLANT.ordinal();
+                } else {
+                    cellTypes[index] = (byte) CellType.WALL.ordinal();
+                    continue;
+                }
+                if (random.nextDouble() < density) {
+                    alive[index] = 1;
+                    living++;
+                }
+            }
+            logic.markModified();
+            logic.restoreStatistics(0, living, 0);
+            return logic;
+        }
+    }
+
+    private EnsembleSpec(Properties properties, Path directory) throws IOException {
+        for (String key : properties.stringPropertyNames()) {
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown key \"" + key + "\"");
+            }
+        }
+        seed = parse(properties, "seed", "0", Long::parseLong);
+        runsPerCombination = parse(properties, "runs", "1", Integer::parseInt);
+        if (runsPerCombination < 1) {
+            throw new IllegalArgumentException("runs must be at least 1");
+        }
+        sizes = parseList(properties, "sizes", "64x64", EnsembleSpec::parseSize);
+        densities = parseList(properties, "densities", "0.5", Double::parseDouble);
+        for (double density : densities) {
+            if (!(density >= 0 && density <= 1)) {
+                throw new IllegalArgumentException("Densities must lie between 0 and 1: " + density);
+            }
+        }
+        mixes = parseList(properties, "mixes", "1:0:0", EnsembleSpec::parseMix);
+        generations = parse(properties, "generations", "10000", Integer::parseInt);
+        if (generations < 0) {
+            throw new IllegalArgumentException("generations must not be negative");
+        }
+        engineName = properties.getProperty("engine", "bitboard").strip();
+        if (!ENGINES.contains(engineName)) {
+            throw new IllegalArgumentException("Unknown engine " + engineName);
+        }
+        String boundaryName = properties.getProperty("boundary", "dead").strip();
+        try {
+            boundary = BoundaryMode.valueOf(boundaryName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown boundary " + boundaryName);
+        }
+        String rulesFile = properties.getProperty("rules");
+        rules = rulesFile != null ? RuleRegistry.load(directory.resolve(rulesFile.strip())) : null;
+
+        long runs = (long) sizes.size() * densities.size() * mixes.size() * runsPerCombination;
+        if (runs > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The sweep has too many runs: " + runs);
+        }
+        runCount = (int) runs;
+    }
+
+    /**
+     * Reads a sweep from a properties file.
+     * @param path the file to read
+     * @return the sweep
+     * @throws IOException if the file, or the rules file it names, cannot be read
+     * @throws IllegalArgumentException if a key is unknown or a value is invalid
+     */
+    public static EnsembleSpec load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            Path directory = path.toAbsolutePath().getParent();
+            return load(reader, directory);
+        }
+    }
+
+    /**
+     * Reads a sweep from a properties stream.
+     * @param reader    the stream to read, which is not closed
+     * @param directory the directory a rules file is resolved against
+     * @return the sweep
+     * @throws IOException if the stream, or the rules file it names, cannot be read
+     * @throws IllegalArgumentException if a key is unknown or a value is invalid
+     */
+    public static EnsembleSpec load(Reader reader, Path directory) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+        return new EnsembleSpec(properties, directory);
+    }
+
+    /* ---------- RUNS ---------- */
+    /**
+     * Returns the number of runs in the sweep.
+     * @return the run count
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Returns a run of the sweep. Runs are ordered by size, then density, then mix,
+     * then repetition.
+     * @param index the run index
+     * @return the run
+     * @throws IndexOutOfBoundsException if there is no such run
+     */
+    public Run getRun(int index) {
+        if (index < 0 || index >= runCount) {
+            throw new IndexOutOfBoundsException("Run " + index + " of " + runCount);
+        }
+        int combination = index / runsPerCombination;
+        double[] mix = mixes.get(combination % mixes.size());
+        combination /= mixes.size();
+        double density = densities.get(combination % densities.size());
+        int[] size = sizes.get(combination / densities.size());
+        return new Run(index, runSeed(index), size[0], size[1], density, mix[0], mix[1], mix[2]);
+    }
+
+    /**
+     * Returns the seed of a run: the value {@code new SplittableRandom(seed)} would return
+     * from its {@code index + 1}-th {@code nextLong}, i.e. its SplitMix64 output.
+     */
+    private long runSeed(int index) {
+        long z = seed + (index + 1L) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Sets up a run's board as the sweep asks: its engine, boundary mode and rules.
+     * @param logic the board of a run
+     */
+    public void configure(LifeLogic logic) {
+        logic.setEngine(switch (engineName) {
+            case "scalar" -> new ScalarEngine();
+            case "bitboard" -> new BitboardEngine();
+            case "vector" -> new VectorEngine();
+            case "tiles" -> new ActiveTileEngine();
+            case "neighbors" -> new NeighborCountEngine();
+            case "ltl" -> new LargerThanLifeEngine();
+            default -> throw new IllegalStateException("Unknown engine " + engineName);
+        });
+        logic.setBoundaryMode(boundary);
+        if (rules != null) {
+            logic.setRules(rules);
+        }
+    }
+
+    /**
+     * Returns the most generations a run may take before it is stopped unsettled.
+     * @return the generation cap
+     */
+    public int getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Returns the seed the run seeds are drawn from.
+     * @return the seed of the sweep
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /* ---------- PARSING ---------- */
+    private static <T> T parse(Properties properties, String key, String fallback, Function<String, T> parser) {
+        String value = properties.getProperty(key, fallback).strip();
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + key + " \"" + value + "\"");
+        }
+    }
+
+    private static <T> List<T> parseList(Properties properties, String key, String fallback, Function<String, T> parser) {
+        List<T> values = new ArrayList<>();
+        for (String value : properties.getProperty(key, fallback).split(",")) {
+            if (value.isBlank()) continue;
+            try {
+                values.add(parser.apply(value.strip()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + key + " entry \"" + value.strip() + "\"");
+            }
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException(key + " must not be empty");
+        }
+        return values;
+    }
+
+    /**
+     * Parses {@code <rows>x<cols>}, or a single number for a square board.
+     */
+    private static int[] parseSize(String value) {
+        String[] parts = value.toLowerCase(Locale.ROOT).split("x", -1);
+        if (parts.length > 2) throw new NumberFormatException(value);
+        int rows = Integer.parseInt(parts[0].strip());
+        int cols = parts.length == 2 ? Integer.parseInt(parts[1].strip()) : rows;
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Board sizes must be positive: " + value);
+        }
+        return new int[] { rows, cols };
+    }
+
+    /**
+     * Parses {@code <animal>:<plant>:<wall>} weights into the share of each type.
+     */
+    private static double[] parseMix(String value) {
+        String[] parts = value.split(":", -1);
+        if (parts.length != 3) throw new NumberFormatException(value);
+        double animals = Double.parseDouble(parts[0].strip());
+        double plants = Double.parseDouble(parts[1].strip());
+        double walls = Double.parseDouble(parts[2].strip());
+        double total = animals + plants + walls;
+        if (!(animals >= 0 && plants >= 0 && walls >= 0 && total > 0 && total < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("Mix weights must be non-negative and not all 0: " + value);
+        }
+        return new double[] { animals / total, plants / total, walls / total };
+    }
+}
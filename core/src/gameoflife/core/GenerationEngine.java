@@ -0,0 +1,69 @@
+package gameoflife.core;
+
+/**
+ * Strategy used by {@code LifeLogic} to compute successive generations.
+ * An engine reads the board's current alive plane and type plane, and writes the
+ * following generation into the board's spare alive plane. {@code LifeLogic} then
+ * swaps the planes and folds the returned counts into its statistics.
+ *
+ * <p>Engines may cache derived state (packed words, masks, ...) between generations,
+ * so an engine instance should only ever be attached to one board.</p>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public interface GenerationEngine {
+
+    /**
+     * Computes the next generation of the given board into its spare alive plane.
+     *
+     * @param board the board to advance (must not be null)
+     * @return the population, births and deaths of the computed generation
+     */
+    StepCounts step(LifeLogic board);
+
+    /**
+     * Discards any state cached from previous generations. Called when the engine is
+     * attached to a board and whenever the board's planes are reallocated or rewritten.
+     */
+    default void reset() {
+    }
+
+    /**
+     * Notifies the engine that a single cell was edited between generations.
+     *
+     * @param board the board that was edited
+     * @param row   the row index of the edited cell
+     * @param col   the column index of the edited cell
+     */
+    default void cellEdited(LifeLogic board, int row, int col) {
+    }
+
+    /**
+     * Checks whether the engine can count neighborhoods other than the classic 3x3 one.
+     * {@code LifeLogic} steps boards whose rules need them with a
+     * {@code LargerThanLifeEngine} when this engine cannot.
+     * @return true if the engine supports every {@code Neighborhood}
+     */
+    default boolean supportsExtendedNeighborhoods() {
+        return false;
+    }
+
+    /**
+     * Checks whether the engine can compute boards with the given boundary. Every engine
+     * supports {@code BoundaryMode.DEAD}; {@code LifeLogic} steps boards with another
+     * boundary with a parallel {@code BitboardEngine} when this engine cannot.
+     * @param mode the boundary mode
+     * @return true if the engine supports the boundary mode
+     */
+    default boolean supportsBoundary(BoundaryMode mode) {
+        return mode == BoundaryMode.DEAD;
+    }
+
+    /**
+     * Returns a short display name for the engine.
+     * @return the engine name
+     */
+    String getName();
+}
@@ -0,0 +1,46 @@
+package gameoflife.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for one {@code LifeLogic.calculateNextGeneration}, so the
+ * steps show up in the same timeline as garbage collections and safepoints. Disabled
+ * unless a recording enables it, e.g. with {@code jfr/gameoflife.jfc}; the JIT then
+ * removes the event entirely, so it costs nothing.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+@Name("gameoflife.Generation")
+@Label("Generation")
+@Category({"Game of Life", "Simulation"})
+@Description("The computation of a generation by LifeLogic")
+@Enabled(false)
+@Threshold("1 ms")
+final class GenerationEvent extends Event {
+    @Label("Generation")
+    int generation;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Columns")
+    int cols;
+
+    @Label("Living Cells")
+    int living;
+
+    @Label("Changed Cells")
+    @Description("The cells that were born or died")
+    int changed;
+
+    @Label("Engine")
+    String engine;
+}
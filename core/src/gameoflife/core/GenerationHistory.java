@@ -0,0 +1,484 @@
+package gameoflife.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bounded record of past generations that lets a {@code LifeLogic} step backwards and
+ * jump to any recorded generation. The record is split into segments, each starting
+ * with a full keyframe of the board followed by one delta per generation. A delta is
+ * the XOR of the alive planes before and after a step, stored as run-length varints of
+ * unchanged and flipped cells. XOR deltas work in both directions, so a generation is
+ * rebuilt either backwards from the current board or forwards from its keyframe,
+ * whichever takes fewer deltas.
+ *
+ * <pre>
+ * Keyframes:       A new segment starts when the board was edited outside a step, or once
+ * the deltas of the current segment outgrow a keyframe. Segments
+ * with an unchanged type plane share it.
+ * Eviction:        The history never exceeds its memory budget. Over budget, the oldest
+ * keyframe is rolled forward by its first delta, so the oldest
+ * generations are dropped first.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+final class GenerationHistory {
+    // Rough per-object costs, so many small deltas are not undercounted
+    private static final long SEGMENT_OVERHEAD = 96;
+    private static final long DELTA_OVERHEAD = 24;
+    // Bounds the deltas replayed by a jump when changes are very sparse
+    private static final int MAX_SEGMENT_GENERATIONS = 256;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private long budget;
+    private long bytes;
+
+    // The generation the board held when the history last touched it, which is
+    // valid while the board's modification count is unchanged since then
+    private int cursor = -1;
+    private int seenModification;
+
+    private byte[] scratch = new byte[1024];
+
+    /**
+     * A keyframe and the deltas of the generations that follow it.
+     */
+    private static final class Segment {
+        int generation;
+        int living;
+        int deceased;
+        final byte[] cellTypes;
+        final long[] alive;
+        // Bytes of cellTypes charged to this segment, 0 when shared with an earlier one
+        long typeBytes;
+
+        // deltas[start + i] turns generation + i into generation + i + 1
+        byte[][] deltas = new byte[16][];
+        int[] livingAfter = new int[16];
+        int[] deceasedAfter = new int[16];
+        int start;
+        int count;
+        long deltaBytes;
+
+        Segment(byte[] cellTypes, long[] alive) {
+            this.cellTypes = cellTypes;
+            this.alive = alive;
+        }
+
+        int lastGeneration() {
+            return generation + count;
+        }
+
+        long cost() {
+            return SEGMENT_OVERHEAD + typeBytes + alive.length * 8L + deltaBytes;
+        }
+    }
+
+    /**
+     * Creates an empty history.
+     * @param budget the memory budget in bytes
+     */
+    GenerationHistory(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Changes the memory budget, evicting the oldest generations if it shrank.
+     * @param budget the memory budget in bytes
+     */
+    void setBudget(long budget) {
+        this.budget = budget;
+        evict();
+    }
+
+    /**
+     * Returns the memory budget.
+     * @return the budget in bytes
+     */
+    long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns the estimated memory held by the history.
+     * @return the size in bytes
+     */
+    long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Forgets every recorded generation.
+     */
+    void clear() {
+        segments.clear();
+        bytes = 0;
+        cursor = -1;
+    }
+
+    /**
+     * Returns the oldest recorded generation.
+     * @return the generation, or -1 if nothing is recorded
+     */
+    int getFirstGeneration() {
+        return segments.isEmpty() ? -1 : segments.getFirst().generation;
+    }
+
+    /**
+     * Returns the newest recorded generation.
+     * @return the generation, or -1 if nothing is recorded
+     */
+    int getLastGeneration() {
+        return segments.isEmpty() ? -1 : segments.getLast().lastGeneration();
+    }
+
+    /* ---------- RECORDING ---------- */
+    /**
+     * Prepares to record the step about to be taken from the board's current generation.
+     * Recorded generations after it are discarded, and a keyframe is taken if the board
+     * was edited since the history last saw it or the current segment is long enough.
+     *
+     * @param logic the board, before the step
+     */
+    void beforeStep(LifeLogic logic) {
+        int generation = logic.getGenerationCount();
+        if (isCurrent(logic)) {
+            truncateAfter(generation);
+            Segment last = segments.getLast();
+            if (last.count >= MAX_SEGMENT_GENERATIONS || last.deltaBytes >= last.alive.length * 8L) {
+                addKeyframe(logic);
+            }
+        } else {
+            truncateFrom(generation);
+            addKeyframe(logic);
+        }
+    }
+
+    /**
+     * Records the delta of the step just taken.
+     * @param logic    the board, after the step
+     * @param previous the alive plane before the step
+     */
+    void afterStep(LifeLogic logic, byte[] previous) {
+        if (segments.isEmpty()) return;
+        Segment last = segments.getLast();
+        if (last.lastGeneration() != logic.getGenerationCount() - 1) return;
+
+        byte[] delta = encode(previous, logic.alivePlane());
+        int index = last.start + last.count;
+        if (index == last.deltas.length) {
+            int capacity = Math.max(16, last.count * 2);
+            last.deltas = Arrays.copyOfRange(last.deltas, last.start, last.start + capacity);
+            last.livingAfter = Arrays.copyOfRange(last.livingAfter, last.start, last.start + capacity);
+            last.deceasedAfter = Arrays.copyOfRange(last.deceasedAfter, last.start, last.start + capacity);
+            last.start = 0;
+            index = last.count;
+        }
+        last.deltas[index] = delta;
+        last.livingAfter[index] = logic.getLivingCount();
+        last.deceasedAfter[index] = logic.getDeceasedCount();
+        last.count++;
+        last.deltaBytes += delta.length + DELTA_OVERHEAD;
+        bytes += delta.length + DELTA_OVERHEAD;
+
+        cursor = logic.getGenerationCount();
+        seenModification = logic.getModificationCount();
+        evict();
+    }
+
+    /**
+     * Records that the board holds the given generation exactly as the history does,
+     * e.g. after the history restored it.
+     * @param logic the board
+     */
+    void synchronize(LifeLogic logic) {
+        cursor = logic.getGenerationCount();
+        seenModification = logic.getModificationCount();
+    }
+
+    private boolean isCurrent(LifeLogic logic) {
+        return !segments.isEmpty()
+                && seenModification == logic.getModificationCount()
+                && cursor == logic.getGenerationCount();
+    }
+
+    private void addKeyframe(LifeLogic logic) {
+        byte[] types = logic.cellTypePlane();
+        long[] alive = pack(logic.alivePlane());
+        long keyframeBytes = SEGMENT_OVERHEAD + alive.length * 8L;
+
+        Segment last = segments.isEmpty() ? null : segments.getLast();
+        Segment segment;
+        if (last != null && Arrays.equals(last.cellTypes, types)) {
+            segment = new Segment(last.cellTypes, alive);
+        } else {
+            segment = new Segment(types.clone(), alive);
+            segment.typeBytes = types.length;
+            keyframeBytes += types.length;
+        }
+        if (keyframeBytes > budget) {
+            clear();
+            return;
+        }
+        segment.generation = logic.getGenerationCount();
+        segment.living = logic.getLivingCount();
+        segment.deceased = logic.getDeceasedCount();
+        segments.add(segment);
+        bytes += segment.cost();
+        synchronize(logic);
+    }
+
+    /**
+     * Drops the recorded generations after the given one.
+     */
+    private void truncateAfter(int generation) {
+        while (!segments.isEmpty()) {
+            Segment last = segments.getLast();
+            if (last.generation > generation) {
+                removeLast();
+            } else {
+                dropDeltas(last, Math.max(0, generation - last.generation));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drops the given generation and the recorded generations after it.
+     */
+    private void truncateFrom(int generation) {
+        while (!segments.isEmpty()) {
+            Segment last = segments.getLast();
+            if (last.generation >= generation) {
+                removeLast();
+            } else {
+                dropDeltas(last, Math.min(last.count, generation - 1 - last.generation));
+                return;
+            }
+        }
+    }
+
+    private void removeLast() {
+        bytes -= segments.removeLast().cost();
+    }
+
+    /**
+     * Keeps only the first {@code keep} deltas of a segment.
+     */
+    private void dropDeltas(Segment segment, int keep) {
+        for (int i = keep; i < segment.count; i++) {
+            int index = segment.start + i;
+            long size = segment.deltas[index].length + DELTA_OVERHEAD;
+            segment.deltaBytes -= size;
+            bytes -= size;
+            segment.deltas[index] = null;
+        }
+        segment.count = Math.min(segment.count, keep);
+    }
+
+    /**
+     * Drops the oldest generations until the history fits its budget, rolling the
+     * oldest keyframe forward one delta at a time.
+     */
+    private void evict() {
+        while (bytes > budget && !segments.isEmpty()) {
+            Segment head = segments.getFirst();
+            if (head.count == 0 || segments.size() > 1 && segments.get(1).generation <= head.generation) {
+                segments.removeFirst();
+                bytes -= head.cost();
+                if (!segments.isEmpty()) {
+                    Segment next = segments.getFirst();
+                    if (next.cellTypes == head.cellTypes && next.typeBytes == 0) {
+                        next.typeBytes = head.typeBytes;
+                        bytes += head.typeBytes;
+                    }
+                }
+                continue;
+            }
+            byte[] delta = head.deltas[head.start];
+            applyToBits(delta, head.alive);
+            head.living = head.livingAfter[head.start];
+            head.deceased = head.deceasedAfter[head.start];
+            head.deltas[head.start] = null;
+            head.start++;
+            head.count--;
+            head.generation++;
+            head.deltaBytes -= delta.length + DELTA_OVERHEAD;
+            bytes -= delta.length + DELTA_OVERHEAD;
+        }
+    }
+
+    /* ---------- RESTORING ---------- */
+    /**
+     * Checks whether a generation can be restored.
+     * @param generation the generation
+     * @return true if it lies within a recorded segment. Generations skipped by
+     *         {@code LifeLogic.advance} leave gaps between segments.
+     */
+    boolean contains(int generation) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Segment segment = segments.get(i);
+            if (segment.generation <= generation && generation <= segment.lastGeneration()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rewrites the board's planes and statistics to a recorded generation, marking the
+     * cells that changed. The caller invalidates the engine afterwards.
+     *
+     * @param logic      the board
+     * @param generation a generation for which {@link #contains} is true
+     */
+    void restore(LifeLogic logic, int generation) {
+        Segment segment = null;
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Segment candidate = segments.get(i);
+            if (candidate.generation <= generation && generation <= candidate.lastGeneration()) {
+                segment = candidate;
+                break;
+            }
+        }
+        if (segment == null) {
+            throw new IllegalArgumentException("Generation " + generation + " is not recorded");
+        }
+
+        byte[] alive = logic.alivePlane();
+        ChangedCells changed = logic.getChangedCells();
+        int cols = logic.getCols();
+        int from;
+        if (isCurrent(logic) && cursor >= segment.generation && cursor <= segment.lastGeneration()
+                && Math.abs(cursor - generation) <= generation - segment.generation) {
+            from = cursor;
+        } else {
+            System.arraycopy(segment.cellTypes, 0, logic.cellTypePlane(), 0, segment.cellTypes.length);
+            unpack(segment.alive, alive);
+            changed.markAll();
+            from = segment.generation;
+            changed = null;
+        }
+        for (int g = from; g < generation; g++) {
+            applyToPlane(segment.deltas[segment.start + g - segment.generation], alive, changed, cols);
+        }
+        for (int g = from; g > generation; g--) {
+            applyToPlane(segment.deltas[segment.start + g - 1 - segment.generation], alive, changed, cols);
+        }
+
+        if (generation == segment.generation) {
+            logic.restoreStatistics(generation, segment.living, segment.deceased);
+        } else {
+            int index = segment.start + generation - 1 - segment.generation;
+            logic.restoreStatistics(generation, segment.livingAfter[index], segment.deceasedAfter[index]);
+        }
+    }
+
+    /* ---------- DELTA CODING ---------- */
+    /**
+     * Encodes the cells that differ between two alive planes as alternating varints:
+     * the number of unchanged cells, then the number of flipped cells.
+     */
+    private byte[] encode(byte[] before, byte[] after) {
+        int length = 0;
+        int end = 0;
+        int n = before.length;
+        while (end < n) {
+            int mismatch = Arrays.mismatch(before, end, n, after, end, n);
+            if (mismatch < 0) break;
+            int runStart = end + mismatch;
+            int runEnd = runStart + 1;
+            while (runEnd < n && before[runEnd] != after[runEnd]) {
+                runEnd++;
+            }
+            if (length + 10 > scratch.length) {
+                scratch = Arrays.copyOf(scratch, scratch.length * 2);
+            }
+            length = writeVarint(scratch, length, runStart - end);
+            length = writeVarint(scratch, length, runEnd - runStart);
+            end = runEnd;
+        }
+        return Arrays.copyOf(scratch, length);
+    }
+
+    private static int writeVarint(byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    /**
+     * Flips the cells of a delta in a byte-per-cell alive plane.
+     * @param changed the bitmap to mark flipped cells in, or null
+     */
+    private static void applyToPlane(byte[] delta, byte[] alive, ChangedCells changed, int cols) {
+        int cell = 0;
+        int position = 0;
+        while (position < delta.length) {
+            int gap = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = delta[position++];
+                gap |= (b & 0x7F) << shift;
+                if (b >= 0) break;
+            }
+            int run = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = delta[position++];
+                run |= (b & 0x7F) << shift;
+                if (b >= 0) break;
+            }
+            cell += gap;
+            for (int end = cell + run; cell < end; cell++) {
+                alive[cell] ^= 1;
+                if (changed != null) changed.mark(cell / cols, cell % cols);
+            }
+        }
+    }
+
+    /**
+     * Flips the cells of a delta in a packed alive bitmap.
+     */
+    private static void applyToBits(byte[] delta, long[] bits) {
+        int cell = 0;
+        int position = 0;
+        while (position < delta.length) {
+            int gap = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = delta[position++];
+                gap |= (b & 0x7F) << shift;
+                if (b >= 0) break;
+            }
+            int run = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = delta[position++];
+                run |= (b & 0x7F) << shift;
+                if (b >= 0) break;
+            }
+            cell += gap;
+            for (int end = cell + run; cell < end; cell++) {
+                bits[cell >>> 6] ^= 1L << cell;
+            }
+        }
+    }
+
+    private static long[] pack(byte[] alive) {
+        long[] bits = new long[(alive.length + 63) >>> 6];
+        for (int i = 0; i < alive.length; i++) {
+            bits[i >>> 6] |= (long) alive[i] << i;
+        }
+        return bits;
+    }
+
+    private static void unpack(long[] bits, byte[] alive) {
+        for (int i = 0; i < alive.length; i++) {
+            alive[i] = (byte) ((bits[i >>> 6] >>> i) & 1);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package gameoflife.core;
+
+/**
+ * A copy of a board's alive plane padded with a halo of {@code width} cells on every
+ * side, filled according to a {@code BoundaryMode}. Engines refresh it once per
+ * generation and then read the neighbors of every board cell without bounds checks.
+ *
+ * <pre>
+ * Refresh:         The board rows are copied in with one array copy each, then the
+ * side columns of every row are filled, then the top and bottom
+ * rows are copied from the padded rows they map to. Dead halos are
+ * zeroed on allocation and never written again.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+final class Halo {
+    private final int width;
+    private int rows = -1;
+    private int cols = -1;
+    private int stride;
+    private BoundaryMode mode;
+    private byte[] plane;
+
+    /**
+     * Constructs an empty halo.
+     * @param width the number of padding cells on every side
+     */
+    Halo(int width) {
+        this.width = width;
+    }
+
+    /**
+     * Copies the board's alive plane into the padded plane and fills the halo.
+     * @param board the board to copy
+     */
+    void refresh(LifeLogic board) {
+        BoundaryMode boundary = board.getBoundaryMode();
+        if (board.getRows() != rows || board.getCols() != cols || boundary != mode) {
+            rows = board.getRows();
+            cols = board.getCols();
+            mode = boundary;
+            stride = cols + 2 * width;
+            plane = new byte[(rows + 2 * width) * stride];
+        }
+
+        byte[] alive = board.alivePlane();
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(alive, r * cols, plane, (r + width) * stride + width, cols);
+        }
+        if (mode == BoundaryMode.DEAD) return;
+
+        for (int r = width; r < rows + width; r++) {
+            int row = r * stride + width;
+            for (int k = 1; k <= width; k++) {
+                plane[row - k] = plane[row + mode.map(-k, cols)];
+                plane[row + cols - 1 + k] = plane[row + mode.map(cols - 1 + k, cols)];
+            }
+        }
+        for (int k = 1; k <= width; k++) {
+            System.arraycopy(plane, (mode.map(-k, rows) + width) * stride, plane, (width - k) * stride, stride);
+            System.arraycopy(plane, (mode.map(rows - 1 + k, rows) + width) * stride,
+                    plane, (rows - 1 + width + k) * stride, stride);
+        }
+    }
+
+    /**
+     * Returns the padded plane, row by row, with board cell (r, c) at
+     * {@code (r + width) * stride() + c + width}.
+     * @return the padded plane (not a copy)
+     */
+    byte[] plane() {
+        return plane;
+    }
+
+    /**
+     * Returns the length of a padded row.
+     * @return the board columns plus twice the width
+     */
+    int stride() {
+        return stride;
+    }
+
+    /**
+     * Returns the number of padding cells on every side.
+     * @return the halo width
+     */
+    int width() {
+        return width;
+    }
+}
@@ -0,0 +1,558 @@
+package gameoflife.core;
+
+import java.util.Arrays;
+
+/**
+ * HashLife engine for very large boards and long-horizon runs.
+ * The board is stored as a canonicalized quadtree: every distinct square of cells is
+ * represented by exactly one node, and each node memoizes the state of its center
+ * half some power-of-two number of generations later. Repeated structure in space and
+ * time is therefore only ever computed once, and runs advance in power-of-two jumps.
+ *
+ * <pre>
+ * Implementation:  Leaves hold a cell state of {@code CellType} ordinal * 2 + alive,
+ * so Animal, Plant and Wall cells all take part. The board is
+ * embedded in an unbounded field of walls; walls never come alive
+ * and never count as living neighbors, which reproduces the
+ * "off-board is dead" edge of {@code LifeLogic} exactly. Memoized
+ * results also record the deaths in each quadrant, so the deceased
+ * statistic stays exact across jumps.
+ * Memory:          Nodes live in a hash table bounded by a configured memory
+ * ceiling. Between jumps, once the ceiling is reached, nodes that
+ * are no longer reachable from the board are evicted, and memoized
+ * results are dropped as well if that does not free enough room.
+ * A single jump may briefly exceed the ceiling.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class HashLife {
+    /** Estimated heap footprint of one node with a memoized result, in bytes. */
+    public static final int NODE_BYTES = 112;
+    /** Default memory ceiling for the node table, in bytes. */
+    public static final long DEFAULT_MEMORY_CEILING = 256L * 1024 * 1024;
+
+    private static final int TYPE_COUNT = CellType.values().length;
+    private static final int WALL_STATE = CellType.WALL.ordinal() * 2;
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    private static final int MAX_LEVEL = 62;
+
+    /**
+     * A canonical quadtree node. Level 0 nodes are single cells; a level {@code k}
+     * node is a square of {@code 2^k} cells made of four level {@code k - 1} children.
+     */
+    private static final class Node {
+        final Node nw;
+        final Node ne;
+        final Node sw;
+        final Node se;
+        final int level;
+        final byte state;
+        final long population;
+        final int hash;
+
+        Node next;
+        Node result;
+        int resultStep = -1;
+        long[] resultDeaths;
+        boolean marked;
+
+        Node(int state) {
+            this.nw = this.ne = this.sw = this.se = null;
+            this.level = 0;
+            this.state = (byte) state;
+            this.population = state & 1;
+            this.hash = (state + 1) * 0x9E3779B9;
+        }
+
+        Node(Node nw, Node ne, Node sw, Node se, int hash) {
+            this.nw = nw;
+            this.ne = ne;
+            this.sw = sw;
+            this.se = se;
+            this.level = nw.level + 1;
+            this.state = 0;
+            this.population = nw.population + ne.population + sw.population + se.population;
+            this.hash = hash;
+        }
+    }
+
+    private final long maxNodes;
+    private Node[] buckets;
+    private long nodeCount;
+
+    private final Node[] leaves = new Node[TYPE_COUNT * 2];
+    private final Node[] wallNodes = new Node[MAX_LEVEL + 2];
+    private final int[] survivalMasks = new int[TYPE_COUNT];
+    private final int[] birthMasks = new int[TYPE_COUNT];
+    private boolean birthOnZero;
+
+    private Node root;
+    private long rows;
+    private long cols;
+    private long generationCount;
+    private long deceasedCount;
+
+    /**
+     * Constructs an empty HashLife engine with the default memory ceiling.
+     */
+    public HashLife() {
+        this(DEFAULT_MEMORY_CEILING);
+    }
+
+    /**
+     * Constructs an empty HashLife engine.
+     * @param memoryCeiling the approximate number of bytes the node table may use
+     */
+    public HashLife(long memoryCeiling) {
+        maxNodes = Math.max(INITIAL_CAPACITY, memoryCeiling / NODE_BYTES);
+        for (int state = 0; state < leaves.length; state++) {
+            leaves[state] = new Node(state);
+        }
+        clearTable();
+    }
+
+    /* ---------- BOARD TRANSFER ---------- */
+    /**
+     * Replaces the universe with the contents, rules and statistics of a logic board.
+     * @param board the board to import
+     * @throws IllegalArgumentException if the board's rules use larger neighborhoods, or
+     *                                  its edges are not dead
+     */
+    public void load(LifeLogic board) {
+        if (board.getRules().hasExtendedNeighborhoods()) {
+            throw new IllegalArgumentException("HashLife only supports rules with the 3x3 neighborhood");
+        }
+        if (board.getBoundaryMode() != BoundaryMode.DEAD) {
+            throw new IllegalArgumentException("HashLife only supports boards with dead edges");
+        }
+        clearTable();
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            survivalMasks[type] = board.ruleMask(type, true);
+            birthMasks[type] = board.ruleMask(type, false);
+            birthOnZero |= (birthMasks[type] & 1) != 0;
+        }
+
+        rows = board.getRows();
+        cols = board.getCols();
+        int level = 1;
+        while ((1L << (level - 1)) < Math.max(rows, cols)) {
+            level++;
+        }
+
+        byte[] cellTypes = board.cellTypePlane();
+        byte[] alive = board.alivePlane();
+        long half = 1L << (level - 1);
+        root = build(level, -half, -half, cellTypes, alive);
+
+        generationCount = board.getGenerationCount();
+        deceasedCount = board.getDeceasedCount();
+    }
+
+    /**
+     * Writes the current universe and statistics back into a logic board.
+     * The board must have the dimensions of the board that was loaded.
+     *
+     * @param board the board to overwrite
+     * @throws IllegalArgumentException if the board dimensions differ
+     * @throws ArithmeticException      if the statistics no longer fit the board's counters
+     */
+    public void store(LifeLogic board) {
+        if (board.getRows() != rows || board.getCols() != cols) {
+            throw new IllegalArgumentException("Board is " + board.getRows() + "x" + board.getCols()
+                    + " but the universe was loaded from " + rows + "x" + cols);
+        }
+        long half = 1L << (root.level - 1);
+        write(root, -half, -half, board.cellTypePlane(), board.alivePlane());
+        board.markModified();
+        board.restoreStatistics(Math.toIntExact(generationCount),
+                Math.toIntExact(root.population), Math.toIntExact(deceasedCount));
+    }
+
+    /**
+     * Returns the state of a cell of the loaded board.
+     * @param row the row index of the target cell
+     * @param col the column index of the target cell
+     * @return the {@code CellType} ordinal * 2 + 1 if alive
+     */
+    public int getState(long row, long col) {
+        Node node = root;
+        long half = 1L << (node.level - 1);
+        long top = -half;
+        long left = -half;
+        while (node.level > 0) {
+            long mid = 1L << (node.level - 1);
+            boolean south = row >= top + mid;
+            boolean east = col >= left + mid;
+            node = south ? (east ? node.se : node.sw) : (east ? node.ne : node.nw);
+            if (south) top += mid;
+            if (east) left += mid;
+        }
+        return node.state;
+    }
+
+    /* ---------- SIMULATION ---------- */
+    /**
+     * Advances the universe by any number of generations, decomposed into
+     * power-of-two jumps.
+     * @param generations the number of generations to advance (must be >= 0)
+     */
+    public void advance(long generations) {
+        if (generations < 0) {
+            throw new IllegalArgumentException("generations must not be negative: " + generations);
+        }
+        for (int step = 0; generations != 0; step++, generations >>>= 1) {
+            if ((generations & 1) != 0) {
+                jump(step);
+            }
+        }
+    }
+
+    /**
+     * Advances the universe by exactly {@code 2^step} generations.
+     * @param step the base-2 logarithm of the number of generations
+     */
+    public void jump(int step) {
+        if (step < 0 || step > MAX_LEVEL - 2) {
+            throw new IllegalArgumentException("step out of range: " + step);
+        }
+        collectIfNeeded();
+
+        // The board must lie inside the center half of the root for the result to cover it
+        while (root.level < step + 2 || exceeds(root.level - 2)) {
+            root = expand(root);
+        }
+
+        Node next = advance(root, step);
+        for (long deaths : root.resultDeaths) {
+            deceasedCount += deaths;
+        }
+        root = next;
+        generationCount += 1L << step;
+    }
+
+    /**
+     * Checks whether the board does not fit inside a square of {@code 2^level} cells.
+     */
+    private boolean exceeds(int level) {
+        long size = 1L << level;
+        return rows > size || cols > size;
+    }
+
+    /**
+     * Computes the center half of a node {@code 2^step} generations later, memoizing
+     * the result along with the deaths in each of its quadrants.
+     *
+     * @param node a node of level {@code step + 2} or higher
+     * @param step the base-2 logarithm of the number of generations
+     * @return the advanced center, one level below {@code node}
+     */
+    private Node advance(Node node, int step) {
+        if (node.result != null && node.resultStep == step) {
+            return node.result;
+        }
+
+        Node result;
+        long[] deaths = new long[4];
+        if (node.population == 0 && !birthOnZero) {
+            result = centered(node);
+        } else if (node.level == 2) {
+            result = advanceBase(node, deaths);
+        } else {
+            Node[][] grand = new Node[4][4];
+            for (int r = 0; r < 4; r++) {
+                for (int c = 0; c < 4; c++) {
+                    grand[r][c] = child(child(node, r >> 1, c >> 1), r & 1, c & 1);
+                }
+            }
+
+            boolean fullStep = step == node.level - 2;
+            Node[][] middle = new Node[3][3];
+            for (int r = 0; r < 3; r++) {
+                for (int c = 0; c < 3; c++) {
+                    Node overlap = join(grand[r][c], grand[r][c + 1], grand[r + 1][c], grand[r + 1][c + 1]);
+                    if (fullStep) {
+                        // First half of the jump; keep the deaths that fall inside this node's center
+                        middle[r][c] = advance(overlap, step - 1);
+                        for (int q = 0; q < 4; q++) {
+                            int unitRow = 2 * r + 1 + (q >> 1);
+                            int unitCol = 2 * c + 1 + (q & 1);
+                            if (unitRow >= 2 && unitRow < 6 && unitCol >= 2 && unitCol < 6) {
+                                deaths[((unitRow - 2) >> 1) * 2 + ((unitCol - 2) >> 1)] += overlap.resultDeaths[q];
+                            }
+                        }
+                    } else {
+                        middle[r][c] = centered(overlap);
+                    }
+                }
+            }
+
+            int secondStep = fullStep ? step - 1 : step;
+            Node[] quadrants = new Node[4];
+            for (int q = 0; q < 4; q++) {
+                int r = q >> 1;
+                int c = q & 1;
+                Node overlap = join(middle[r][c], middle[r][c + 1], middle[r + 1][c], middle[r + 1][c + 1]);
+                quadrants[q] = advance(overlap, secondStep);
+                for (long quadrantDeaths : overlap.resultDeaths) {
+                    deaths[q] += quadrantDeaths;
+                }
+            }
+            result = join(quadrants[0], quadrants[1], quadrants[2], quadrants[3]);
+        }
+
+        node.result = result;
+        node.resultStep = step;
+        node.resultDeaths = deaths;
+        return result;
+    }
+
+    /**
+     * Advances the center 2x2 cells of a 4x4 node by one generation by applying the rules directly.
+     */
+    private Node advanceBase(Node node, long[] deaths) {
+        int[][] states = new int[4][4];
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                states[r][c] = child(child(node, r >> 1, c >> 1), r & 1, c & 1).state;
+            }
+        }
+
+        Node[] cells = new Node[4];
+        for (int q = 0; q < 4; q++) {
+            int row = 1 + (q >> 1);
+            int col = 1 + (q & 1);
+            int livingNeighbors = 0;
+            for (int r = row - 1; r <= row + 1; r++) {
+                for (int c = col - 1; c <= col + 1; c++) {
+                    if (r == row && c == col) continue;
+                    livingNeighbors += states[r][c] & 1;
+                }
+            }
+
+            int state = states[row][col];
+            int type = state >> 1;
+            boolean wasAlive = (state & 1) != 0;
+            int ruleMask = wasAlive ? survivalMasks[type] : birthMasks[type];
+            boolean isNowAlive = (ruleMask & (1 << livingNeighbors)) != 0;
+            if (wasAlive && !isNowAlive) {
+                deaths[q] = 1;
+            }
+            cells[q] = leaves[type * 2 + (isNowAlive ? 1 : 0)];
+        }
+        return join(cells[0], cells[1], cells[2], cells[3]);
+    }
+
+    /**
+     * Returns the node one level down formed by the center of a node, without advancing time.
+     */
+    private Node centered(Node node) {
+        return join(node.nw.se, node.ne.sw, node.sw.ne, node.se.nw);
+    }
+
+    /**
+     * Wraps a node in a field of walls one level up, keeping it centered.
+     */
+    private Node expand(Node node) {
+        Node wall = wallNode(node.level - 1);
+        return join(join(wall, wall, wall, node.nw), join(wall, wall, node.ne, wall),
+                join(wall, node.sw, wall, wall), join(node.se, wall, wall, wall));
+    }
+
+    private static Node child(Node node, int south, int east) {
+        return south == 0 ? (east == 0 ? node.nw : node.ne) : (east == 0 ? node.sw : node.se);
+    }
+
+    /* ---------- BUILD / EXPORT ---------- */
+    /**
+     * Builds the node covering a square of the universe from the board planes.
+     */
+    private Node build(int level, long top, long left, byte[] cellTypes, byte[] alive) {
+        long size = 1L << level;
+        if (top >= rows || left >= cols || top + size <= 0 || left + size <= 0) {
+            return wallNode(level);
+        }
+        if (level == 0) {
+            int index = (int) (top * cols + left);
+            return leaves[cellTypes[index] * 2 + alive[index]];
+        }
+        long half = size >> 1;
+        return join(build(level - 1, top, left, cellTypes, alive),
+                build(level - 1, top, left + half, cellTypes, alive),
+                build(level - 1, top + half, left, cellTypes, alive),
+                build(level - 1, top + half, left + half, cellTypes, alive));
+    }
+
+    /**
+     * Writes the part of a node that overlaps the board into the board planes.
+     */
+    private void write(Node node, long top, long left, byte[] cellTypes, byte[] alive) {
+        long size = 1L << node.level;
+        if (top >= rows || left >= cols || top + size <= 0 || left + size <= 0) {
+            return;
+        }
+        if (node.level == 0) {
+            int index = (int) (top * cols + left);
+            cellTypes[index] = (byte) (node.state >> 1);
+            alive[index] = (byte) (node.state & 1);
+            return;
+        }
+        long half = size >> 1;
+        write(node.nw, top, left, cellTypes, alive);
+        write(node.ne, top, left + half, cellTypes, alive);
+        write(node.sw, top + half, left, cellTypes, alive);
+        write(node.se, top + half, left + half, cellTypes, alive);
+    }
+
+    /**
+     * Returns the canonical node of the given level made entirely of walls.
+     */
+    private Node wallNode(int level) {
+        if (wallNodes[level] == null) {
+            Node wall = level == 0 ? leaves[WALL_STATE] : wallNode(level - 1);
+            wallNodes[level] = level == 0 ? wall : join(wall, wall, wall, wall);
+        }
+        return wallNodes[level];
+    }
+
+    /* ---------- NODE TABLE ---------- */
+    /**
+     * Returns the canonical node with the given children, creating it if needed.
+     */
+    private Node join(Node nw, Node ne, Node sw, Node se) {
+        int hash = ((nw.hash * 31 + ne.hash) * 31 + sw.hash) * 31 + se.hash;
+        hash ^= hash >>> 16;
+        int bucket = hash & (buckets.length - 1);
+        for (Node node = buckets[bucket]; node != null; node = node.next) {
+            if (node.nw == nw && node.ne == ne && node.sw == sw && node.se == se) {
+                return node;
+            }
+        }
+
+        Node node = new Node(nw, ne, sw, se, hash);
+        node.next = buckets[bucket];
+        buckets[bucket] = node;
+        nodeCount++;
+        if (nodeCount > buckets.length - (buckets.length >> 2) && buckets.length < maxNodes) {
+            rehash(buckets.length << 1);
+        }
+        return node;
+    }
+
+    private void rehash(int capacity) {
+        Node[] oldBuckets = buckets;
+        buckets = new Node[capacity];
+        for (Node head : oldBuckets) {
+            Node node = head;
+            while (node != null) {
+                Node next = node.next;
+                int bucket = node.hash & (capacity - 1);
+                node.next = buckets[bucket];
+                buckets[bucket] = node;
+                node = next;
+            }
+        }
+    }
+
+    private void clearTable() {
+        buckets = new Node[INITIAL_CAPACITY];
+        nodeCount = 0;
+        Arrays.fill(wallNodes, null);
+        birthOnZero = false;
+    }
+
+    /**
+     * Evicts unreachable nodes once the node table reaches the memory ceiling. Memoized
+     * results are kept when possible; if the reachable nodes and their results still fill
+     * more than half of the budget, the results are dropped too.
+     */
+    private void collectIfNeeded() {
+        if (nodeCount < maxNodes) {
+            return;
+        }
+        collect(true);
+        if (nodeCount > maxNodes / 2) {
+            collect(false);
+        }
+    }
+
+    private void collect(boolean keepResults) {
+        mark(root, keepResults);
+        for (Node wall : wallNodes) {
+            if (wall != null) {
+                mark(wall, keepResults);
+            }
+        }
+
+        nodeCount = 0;
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            Node kept = null;
+            Node node = buckets[bucket];
+            while (node != null) {
+                Node next = node.next;
+                if (node.marked) {
+                    node.marked = false;
+                    if (!keepResults) {
+                        node.result = null;
+                        node.resultDeaths = null;
+                        node.resultStep = -1;
+                    }
+                    node.next = kept;
+                    kept = node;
+                    nodeCount++;
+                }
+                node = next;
+            }
+            buckets[bucket] = kept;
+        }
+    }
+
+    private void mark(Node node, boolean keepResults) {
+        if (node == null || node.level == 0 || node.marked) {
+            return;
+        }
+        node.marked = true;
+        mark(node.nw, keepResults);
+        mark(node.ne, keepResults);
+        mark(node.sw, keepResults);
+        mark(node.se, keepResults);
+        if (keepResults) {
+            mark(node.result, true);
+        }
+    }
+
+    /* ---------- STATISTICS ---------- */
+    /**
+     * Returns the generation the universe is at.
+     * @return the generation count
+     */
+    public long getGenerationCount() {
+        return generationCount;
+    }
+
+    /**
+     * Returns the number of living cells on the board.
+     * @return the population
+     */
+    public long getLivingCount() {
+        return root == null ? 0 : root.population;
+    }
+
+    /**
+     * Returns the cumulative number of cells that have died.
+     * @return the total number of deceased cells
+     */
+    public long getDeceasedCount() {
+        return deceasedCount;
+    }
+
+    /**
+     * Returns the number of nodes currently held in the node table.
+     * @return the node count
+     */
+    public long getNodeCount() {
+        return nodeCount;
+    }
+}
@@ -1,4 +1,4 @@
-package gameoflife;
+package gameoflife.core;
 
 /**
  * Represents a category of static, non-biological cells in the simulation.
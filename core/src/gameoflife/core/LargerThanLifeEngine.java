@@ -0,0 +1,261 @@
+package gameoflife.core;
+
+/**
+ * Generation engine for rules with any {@code Neighborhood}, including the Larger than
+ * Life rules with radii of 10 and more. Instead of visiting the (2r+1)^2 cells around
+ * every cell, each generation builds a summed-area table of the alive plane, so the
+ * count of any rectangle, and so of any Moore neighborhood, costs four lookups. The
+ * classic rules are the radius 1 case. The next state is then looked up in a table per
+ * {@code CellType} indexed by state and count.
+ *
+ * <pre>
+ * Von Neumann:     A diamond is a square once the board is rotated by 45 degrees, so
+ * von Neumann neighborhoods are counted from a second summed-area
+ * table over the diagonals (r + c, r - c), which holds no cells
+ * between the rotated ones. It is about (rows + cols)^2 entries, or
+ * 4 times the board, and only built while a rule uses it.
+ * Boundary:        The tables are built over a {@code Halo} as wide as the largest
+ * radius, filled by the board's {@code BoundaryMode}, so no
+ * neighborhood is clipped and the loop has no bounds checks.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class LargerThanLifeEngine implements BandedEngine {
+    private static final CellType[] CELL_TYPES = CellType.values();
+
+    // Neighborhood of every type, indexed by CellType ordinal
+    private final boolean[] vonNeumann = new boolean[CELL_TYPES.length];
+    private final int[] radius = new int[CELL_TYPES.length];
+    private final int[] excludesCenter = new int[CELL_TYPES.length];
+    // Next states of every type at tableOffset + alive * tableStride + count
+    private final int[] tableOffset = new int[CELL_TYPES.length];
+    private final int[] tableStride = new int[CELL_TYPES.length];
+    private byte[] nextStates;
+
+    private int rows = -1;
+    private int cols = -1;
+    private boolean initialized = false;
+
+    // The alive plane padded by the largest radius, and its dimensions
+    private Halo halo;
+    private int paddedRows;
+    private int paddedCols;
+
+    // Living cells above and left of each corner, (paddedRows + 1) x (paddedCols + 1)
+    private int[] squareSums;
+    // The same over the diagonals, (diagonals + 1) x (diagonals + 1)
+    private int[] diamondSums;
+    private int diagonals;
+
+    @Override
+    public void prepare(LifeLogic board) {
+        if (!initialized || board.getRows() != rows || board.getCols() != cols) {
+            initialize(board);
+        }
+        halo.refresh(board);
+        byte[] padded = halo.plane();
+        if (squareSums != null) {
+            buildSquareSums(padded);
+        }
+        if (diamondSums != null) {
+            buildDiamondSums(padded);
+        }
+    }
+
+    @Override
+    public StepCounts stepRows(LifeLogic board, int fromRow, int toRow) {
+        byte[] cellTypes = board.cellTypePlane();
+        byte[] alive = board.alivePlane();
+        byte[] nextAlive = board.nextAlivePlane();
+        ChangedCells changes = board.getChangedCells();
+
+        int width = halo.width();
+        int squareStride = paddedCols + 1;
+        int diamondStride = diagonals + 1;
+        int living = 0;
+        int births = 0;
+        int deaths = 0;
+
+        for (int r = fromRow; r < toRow; r++) {
+            for (int c = 0; c < cols; c++) {
+                int index = r * cols + c;
+                int type = cellTypes[index];
+                int wasAlive = alive[index];
+                int reach = radius[type];
+
+                // The neighborhood lies within the halo, so its rectangle is never clipped
+                int count;
+                if (vonNeumann[type]) {
+                    int u = r + c + 2 * width;
+                    int v = r - c + paddedCols - 1;
+                    int u0 = (u - reach) * diamondStride;
+                    int u1 = (u + reach + 1) * diamondStride;
+                    int v0 = v - reach;
+                    int v1 = v + reach + 1;
+                    count = diamondSums[u1 + v1] - diamondSums[u0 + v1] - diamondSums[u1 + v0] + diamondSums[u0 + v0];
+                } else {
+                    int r0 = (r + width - reach) * squareStride;
+                    int r1 = (r + width + reach + 1) * squareStride;
+                    int c0 = c + width - reach;
+                    int c1 = c + width + reach + 1;
+                    count = squareSums[r1 + c1] - squareSums[r0 + c1] - squareSums[r1 + c0] + squareSums[r0 + c0];
+                }
+                count -= wasAlive & excludesCenter[type];
+
+                byte next = nextStates[tableOffset[type] + wasAlive * tableStride[type] + count];
+                nextAlive[index] = next;
+                living += next;
+                if (next != wasAlive) {
+                    if (next != 0) births++;
+                    else deaths++;
+                    changes.mark(r, c);
+                }
+            }
+        }
+        return new StepCounts(living, births, deaths);
+    }
+
+    @Override
+    public void finish(LifeLogic board) {
+    }
+
+    /**
+     * Compiles the next-state tables of the board's rules and allocates the summed-area
+     * tables their neighborhoods need.
+     */
+    private void initialize(LifeLogic board) {
+        rows = board.getRows();
+        cols = board.getCols();
+        RuleRegistry rules = board.getRules();
+
+        // Lifeless types are always dead next, so they borrow a shape already in use
+        boolean anySquare = false;
+        boolean anyDiamond = false;
+        for (CellType type : CELL_TYPES) {
+            LifeRule rule = rules.getRule(type);
+            if (rule.isLifeless()) continue;
+            boolean diamond = rule.getNeighborhood().shape() == Neighborhood.Shape.VON_NEUMANN;
+            anySquare |= !diamond;
+            anyDiamond |= diamond;
+        }
+        if (!anySquare && !anyDiamond) {
+            anySquare = true;
+        }
+
+        // Lifeless types count a radius 1 neighborhood, whose counts fit their table
+        int tableSize = 0;
+        for (CellType type : CELL_TYPES) {
+            int t = type.ordinal();
+            LifeRule rule = rules.getRule(type);
+            Neighborhood neighborhood = rule.getNeighborhood();
+            if (rule.isLifeless()) {
+                vonNeumann[t] = !anySquare;
+                radius[t] = 1;
+                excludesCenter[t] = 0;
+                tableStride[t] = Neighborhood.MOORE.size() + 2;
+            } else {
+                vonNeumann[t] = neighborhood.shape() == Neighborhood.Shape.VON_NEUMANN;
+                radius[t] = neighborhood.radius();
+                excludesCenter[t] = neighborhood.includesCenter() ? 0 : 1;
+                tableStride[t] = neighborhood.size() + 1;
+            }
+            tableOffset[t] = tableSize;
+            tableSize += 2 * tableStride[t];
+        }
+        nextStates = new byte[tableSize];
+        for (CellType type : CELL_TYPES) {
+            int t = type.ordinal();
+            LifeRule rule = rules.getRule(type);
+            for (int count = 0; count < tableStride[t]; count++) {
+                nextStates[tableOffset[t] + count] = (byte) (rule.nextState(false, count) ? 1 : 0);
+                nextStates[tableOffset[t] + tableStride[t] + count] = (byte) (rule.nextState(true, count) ? 1 : 0);
+            }
+        }
+
+        int width = 0;
+        for (int reach : radius) {
+            width = Math.max(width, reach);
+        }
+        if (halo == null || halo.width() != width) {
+            halo = new Halo(width);
+        }
+        paddedRows = rows + 2 * width;
+        paddedCols = cols + 2 * width;
+        diagonals = paddedRows + paddedCols - 1;
+        if ((long) (paddedRows + 1) * (paddedCols + 1) > Integer.MAX_VALUE - 8
+                || anyDiamond && (long) (diagonals + 1) * (diagonals + 1) > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("The board is too large for its neighborhoods: " + cols + " x " + rows);
+        }
+        squareSums = anySquare ? new int[(paddedRows + 1) * (paddedCols + 1)] : null;
+        diamondSums = anyDiamond ? new int[(diagonals + 1) * (diagonals + 1)] : null;
+        initialized = true;
+    }
+
+    /**
+     * Fills the summed-area table of the padded plane: entry (r, c) holds the living
+     * cells in rows {@code [0, r)} and columns {@code [0, c)}. Row and column 0 stay zero.
+     */
+    private void buildSquareSums(byte[] padded) {
+        int stride = paddedCols + 1;
+        for (int r = 0; r < paddedRows; r++) {
+            int above = r * stride;
+            int row = above + stride;
+            int rowSum = 0;
+            for (int c = 0; c < paddedCols; c++) {
+                rowSum += padded[r * paddedCols + c];
+                squareSums[row + c + 1] = squareSums[above + c + 1] + rowSum;
+            }
+        }
+    }
+
+    /**
+     * Fills the summed-area table over the diagonals of the padded plane: entry (u, v)
+     * holds the living cells with {@code r + c < u} and {@code r - c + paddedCols - 1 < v}.
+     * Diagonal {@code u} holds the cells of rows {@code max(0, u - paddedCols + 1)} to
+     * {@code min(paddedRows - 1, u)}, two entries apart, with nothing in between.
+     */
+    private void buildDiamondSums(byte[] padded) {
+        int stride = diagonals + 1;
+        for (int u = 0; u < diagonals; u++) {
+            int above = u * stride + 1;
+            int row = above + stride;
+            int rowSum = 0;
+            int v = 0;
+            for (int r = Math.max(0, u - paddedCols + 1); r <= Math.min(paddedRows - 1, u); r++) {
+                int cellV = 2 * r - u + paddedCols - 1;
+                for (; v < cellV; v++) {
+                    diamondSums[row + v] = diamondSums[above + v] + rowSum;
+                }
+                rowSum += padded[r * paddedCols + u - r];
+                diamondSums[row + v] = diamondSums[above + v] + rowSum;
+                v++;
+            }
+            for (; v < diagonals; v++) {
+                diamondSums[row + v] = diamondSums[above + v] + rowSum;
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        initialized = false;
+    }
+
+    @Override
+    public boolean supportsExtendedNeighborhoods() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsBoundary(BoundaryMode mode) {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Larger than Life";
+    }
+}
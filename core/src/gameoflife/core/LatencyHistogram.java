@@ -0,0 +1,132 @@
+package gameoflife.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations in nanoseconds with fixed log-linear buckets: four per power
+ * of two, so every recorded value is known to within 25 percent, from 0 up to about
+ * 18 minutes. Recording is a few atomic adds into preallocated arrays, so it never
+ * allocates and is safe from any thread; readers see a consistent enough picture
+ * for monitoring, not an atomic snapshot.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    // Values of 2^MAX_EXPONENT nanoseconds and more share the last bucket
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a duration.
+     * @param nanos the duration in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        totalNanos.addAndGet(value);
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Forgets every recorded duration.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        totalNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    /* ---------- STATISTICS ---------- */
+    /**
+     * Returns the number of recorded durations.
+     * @return the count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the mean of the recorded durations.
+     * @return the mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMeanNanos() {
+        long recorded = count.get();
+        return recorded == 0 ? 0 : (double) totalNanos.get() / recorded;
+    }
+
+    /**
+     * Returns the longest recorded duration.
+     * @return the maximum in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns an upper bound of the duration below which a fraction of the recorded
+     * durations fall, accurate to the width of its bucket.
+     * @param fraction the fraction, e.g. 0.99 for the 99th percentile
+     * @return the percentile in nanoseconds, or 0 if nothing was recorded
+     * @throws IllegalArgumentException if the fraction is not between 0 and 1
+     */
+    public long getPercentileNanos(double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("The fraction must be between 0 and 1: " + fraction);
+        }
+        long target = Math.max(1, (long) Math.ceil(fraction * count.get()));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(lowestValue(i + 1) - 1, maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /* ---------- BUCKETS ---------- */
+    /**
+     * Returns the bucket of a value: values below {@code SUB_BUCKETS} have one each,
+     * and every power of two above is split into {@code SUB_BUCKETS} equal parts.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Returns the smallest value of a bucket, the inverse of {@link #bucketOf}.
+     */
+    private static long lowestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+    }
+}
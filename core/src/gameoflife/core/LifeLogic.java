@@ -0,0 +1,954 @@
+package gameoflife.core;
+
+import java.util.Arrays;
+
+/**
+ * Logical model for the Game of Life grid.
+ * Holds the state of the cells in flat primitive planes: a type plane storing one
+ * {@code CellType} ordinal per cell, and two alive planes that are swapped every
+ * generation instead of copied. The next generation is computed by a pluggable
+ * {@code GenerationEngine}, which looks the next state of every cell up in a table
+ * compiled from the board's {@code RuleRegistry}, and the {@code AbstractCell} based
+ * accessors act as a view over the planes.
+ * It provides methods for retrieving and updating the board state, calculating the next
+ * board state, and tracking simulation statistics.
+ *
+ * <pre>
+ * File            LifeLogic.java
+ * Project         Game of Life
+ * Platform        PC, Windows 11; JDK 25
+ * Course          CS 142
+ * Date            02/24/2026
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           1.0.0
+ */
+public class LifeLogic {
+    private static final CellType[] CELL_TYPES = CellType.values();
+    // Advances at least this long are computed by HashLife when the board allows it
+    private static final int HASHLIFE_MIN_GENERATIONS = 1024;
+
+    private byte[] cellTypes;
+    private byte[] alive;
+    private byte[] nextAlive;
+    private int logicRows;
+    private int logicCols;
+
+    // The rule of every CellType, and the lookup table compiled from them
+    private RuleRegistry rules = new RuleRegistry();
+    private byte[] ruleTable = rules.compile();
+    private GenerationEngine engine = new ScalarEngine();
+    // Step the board instead of the engine while the rules or boundary need them
+    private GenerationEngine extendedEngine;
+    private GenerationEngine boundaryEngine;
+    private BoundaryMode boundaryMode = BoundaryMode.DEAD;
+    // When set, the planes are a window onto this unbounded world at its origin
+    private SparseWorld world;
+    // Whether advance may hand long runs to HashLife
+    private boolean hashLifeJumps = true;
+    // Incremented whenever the planes are edited outside of a generation step
+    private int modificationCount = 0;
+    // Cells changed by generations and edits since the view last cleared them
+    private final ChangedCells changedCells = new ChangedCells(0, 0);
+    // Past generations for rewinding, or null when disabled
+    private GenerationHistory history;
+    // Hashes recent generations to find still lifes and oscillators
+    private final CycleDetector cycleDetector = new CycleDetector();
+    // Receives step timings and births and deaths per type, or null when disabled
+    private SimulationMetrics metrics;
+    // The alive plane before the step being tallied, the visitor tallying it, and the
+    // births and deaths it found per type, added to the metrics once per step
+    private byte[] tallyPrevious;
+    private final ChangedCells.Visitor changeTally = this::tallyChange;
+    private final int[] tallyBirths = new int[CELL_TYPES.length];
+    private final int[] tallyDeaths = new int[CELL_TYPES.length];
+    // Living cells per type, kept up to date by the tally once asked for, until an edit
+    private final int[] livingByType = new int[CELL_TYPES.length];
+    private int livingByTypeModification = -1;
+
+    private int generationCount = 0;
+    private int livingCount = 0;
+    private int lastBirths = 0;
+    private int lastDeaths = 0;
+    private int deceasedCount = 0;
+
+    /**
+     * Constructs a new logical game board with the specified dimensions.
+     * All cells default to dead {@code AnimalCell}s.
+     *
+     * @param rows the number of rows in the grid
+     * @param cols the number of columns in the grid
+     */
+    public LifeLogic(int rows, int cols) {
+        allocate(rows, cols);
+    }
+
+    /**
+     * Allocates fresh planes for the given dimensions. The type plane is zero-filled,
+     * which is the ordinal of {@code CellType.ANIMAL}, so every cell starts as a dead animal.
+     *
+     * @param rows the number of rows in the grid
+     * @param cols the number of columns in the grid
+     */
+    private void allocate(int rows, int cols) {
+        // Allocate before touching any field, so running out of memory leaves the board intact
+        byte[] newTypes = new byte[rows * cols];
+        byte[] newAlive = new byte[rows * cols];
+        byte[] newNextAlive = new byte[rows * cols];
+        changedCells.resize(rows, cols);
+        logicRows = rows;
+        logicCols = cols;
+        cellTypes = newTypes;
+        alive = newAlive;
+        nextAlive = newNextAlive;
+        if (history != null) {
+            history.clear();
+        }
+        markModified();
+    }
+
+    /**
+     * Builds a 2D array of {@code AbstractCell} objects describing the current board.
+     * The cells are detached copies; modifying them does not affect the board.
+     *
+     * @return a 2D array representing the current board layout
+     */
+    public AbstractCell[][] getBoardState() {
+        AbstractCell[][] boardStateCopy = new AbstractCell[logicRows][logicCols];
+        for (int r = 0; r < logicRows; r++) {
+            for (int c = 0; c < logicCols; c++) {
+                boardStateCopy[r][c] = getCell(r, c);
+            }
+        }
+        return boardStateCopy;
+    }
+
+    /**
+     * Replaces the internal board state with the contents of a 2D array of cells
+     * and synchronizes the board dimensions.
+     *
+     * @param boardState the new 2D array of {@code AbstractCell} objects
+     */
+    public void setBoardState(AbstractCell[][] boardState) {
+        if (world != null) {
+            world.clear();
+        }
+        allocate(boardState.length, boardState[0].length);
+        for (int r = 0; r < logicRows; r++) {
+            for (int c = 0; c < logicCols; c++) {
+                setCell(r, c, boardState[r][c]);
+            }
+        }
+    }
+
+    /**
+     * Changes the board dimensions, keeping the overlapping region of the current board.
+     * Space outside the previous bounds is filled with dead {@code AnimalCell}s, or with
+     * the matching region of the world when the board is unbounded.
+     *
+     * @param rows the new number of rows
+     * @param cols the new number of columns
+     */
+    public void resize(int rows, int cols) {
+        byte[] oldTypes = cellTypes;
+        byte[] oldAlive = alive;
+        int oldCols = logicCols;
+        int keptRows = Math.min(logicRows, rows);
+        int keptCols = Math.min(logicCols, cols);
+
+        allocate(rows, cols);
+        if (world != null) {
+            world.readWindow(0, 0, rows, cols, cellTypes, alive);
+            return;
+        }
+        for (int r = 0; r < keptRows; r++) {
+            System.arraycopy(oldTypes, r * oldCols, cellTypes, r * cols, keptCols);
+            System.arraycopy(oldAlive, r * oldCols, alive, r * cols, keptCols);
+        }
+    }
+
+    /**
+     * Computes the next generation with the current {@code GenerationEngine}, which writes
+     * it to the spare alive plane, then swaps the planes and updates the generation statistics.
+     * When the board is unbounded, the whole world is advanced instead and the visible
+     * window is copied into the spare plane. Cells that changed are added to
+     * {@link #getChangedCells}.
+     */
+    public void calculateNextGeneration() {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        long startNanos = metrics != null ? System.nanoTime() : 0;
+        boolean recording = history != null && world == null;
+        if (recording) {
+            history.beforeStep(this);
+        }
+
+        long computeNanos = metrics != null ? System.nanoTime() : 0;
+        StepCounts counts;
+        if (world != null) {
+            counts = world.step();
+            world.readWindow(0, 0, logicRows, logicCols, null, nextAlive);
+            markWindowChanges();
+        } else {
+            counts = stepEngine().step(this);
+        }
+        long commitNanos = metrics != null ? System.nanoTime() : 0;
+
+        byte[] previous = alive;
+        alive = nextAlive;
+        nextAlive = previous;
+
+        livingCount = counts.living();
+        lastBirths = counts.births();
+        lastDeaths = counts.deaths();
+        int previousDeceased = deceasedCount;
+        deceasedCount = (int) Math.min((long) deceasedCount + counts.deaths(), Integer.MAX_VALUE);
+        generationCount++;
+
+        if (recording) {
+            history.afterStep(this, previous);
+        }
+        if (world == null) {
+            cycleDetector.afterStep(this, previous, previousDeceased);
+        }
+        if (metrics != null || livingByTypeModification == modificationCount) {
+            tallyChanges(previous);
+        }
+        if (metrics != null) {
+            long endNanos = System.nanoTime();
+            metrics.record(SimulationMetrics.Phase.STEP_COMPUTE, commitNanos - computeNanos);
+            metrics.record(SimulationMetrics.Phase.STEP_COMMIT, (computeNanos - startNanos) + (endNanos - commitNanos));
+            metrics.recordGeneration(endNanos);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.generation = generationCount;
+            event.rows = logicRows;
+            event.cols = logicCols;
+            event.living = livingCount;
+            event.changed = counts.births() + counts.deaths();
+            event.engine = getActiveEngineName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Counts the births and deaths of the step just taken per cell type, for the metrics
+     * and the living counts per type. Only the cells in the changed-cell bitmap are
+     * compared with the previous plane, unless the whole board is flagged as changed.
+     * @param previous the alive plane before the step
+     */
+    private void tallyChanges(byte[] previous) {
+        tallyPrevious = previous;
+        if (changedCells.isAllChanged()) {
+            int cells = logicRows * logicCols;
+            for (int index = 0; index < cells; index++) {
+                tallyCell(index);
+            }
+        } else {
+            changedCells.forEach(changeTally);
+        }
+        tallyPrevious = null;
+
+        boolean livingByTypeValid = livingByTypeModification == modificationCount;
+        for (int type = 0; type < tallyBirths.length; type++) {
+            if (metrics != null) {
+                metrics.recordChanges(type, tallyBirths[type], tallyDeaths[type]);
+            }
+            if (livingByTypeValid) {
+                livingByType[type] += tallyBirths[type] - tallyDeaths[type];
+            }
+            tallyBirths[type] = 0;
+            tallyDeaths[type] = 0;
+        }
+    }
+
+    private void tallyChange(int row, int col) {
+        tallyCell(row * logicCols + col);
+    }
+
+    private void tallyCell(int index) {
+        int now = alive[index];
+        if (now != tallyPrevious[index]) {
+            (now != 0 ? tallyBirths : tallyDeaths)[cellTypes[index]]++;
+        }
+    }
+
+    /**
+     * Returns the engine that computes the next generation: the selected engine, unless
+     * the rules count neighborhoods or the board has a boundary that it does not support.
+     */
+    private GenerationEngine stepEngine() {
+        boolean extended = rules.hasExtendedNeighborhoods();
+        if ((!extended || engine.supportsExtendedNeighborhoods()) && engine.supportsBoundary(boundaryMode)) {
+            return engine;
+        }
+        if (extended) {
+            if (extendedEngine == null) {
+                extendedEngine = new ParallelEngine(new LargerThanLifeEngine());
+            }
+            return extendedEngine;
+        }
+        if (boundaryEngine == null) {
+            boundaryEngine = new ParallelEngine(new BitboardEngine());
+        }
+        return boundaryEngine;
+    }
+
+    /**
+     * Advances the board by a number of generations. Once the board is known to repeat,
+     * whole periods are skipped without computing them: the board is unchanged and only
+     * the statistics move on, so settled boards advance in constant time. Runs of at
+     * least {@value #HASHLIFE_MIN_GENERATIONS} generations on a bounded board with dead
+     * edges and 3x3 rules are computed by {@code HashLife} in power-of-two jumps, unless
+     * {@link #setHashLifeJumps} turned that off. Skipped and jumped generations are not
+     * recorded in the history or the metrics, and flag every cell as changed. The
+     * deceased count stops at {@code Integer.MAX_VALUE} rather than wrapping.
+     *
+     * @param generations the number of generations to advance
+     * @return the number of generations skipped as whole periods, without being computed
+     * @throws IllegalArgumentException if the count is negative, or would take the
+     *                                  generation count past {@code Integer.MAX_VALUE}
+     */
+    public int advance(int generations) {
+        if (generations < 0) {
+            throw new IllegalArgumentException("The generation count must not be negative");
+        }
+        if (generations > Integer.MAX_VALUE - generationCount) {
+            throw new IllegalArgumentException("Advancing " + generations + " generations from generation "
+                    + generationCount + " would overflow the generation count");
+        }
+        int remaining = generations;
+        int skippedTotal = 0;
+        while (remaining > 0) {
+            int period = cycleDetector.getPeriod();
+            if (period > 0 && remaining >= period) {
+                int skipped = remaining - remaining % period;
+                long totalDeaths = (long) (skipped / period) * cycleDetector.getDeathsPerCycle();
+                int deaths = (int) Math.min(totalDeaths, Integer.MAX_VALUE - deceasedCount);
+                generationCount += skipped;
+                deceasedCount += deaths;
+                cycleDetector.skip(skipped, deaths);
+                skippedTotal += skipped;
+                remaining -= skipped;
+            } else if (remaining >= HASHLIFE_MIN_GENERATIONS && supportsHashLife()) {
+                HashLife hashLife = new HashLife();
+                hashLife.load(this);
+                hashLife.advance(remaining);
+                hashLife.store(this);
+                remaining = 0;
+            } else {
+                calculateNextGeneration();
+                remaining--;
+            }
+        }
+        return skippedTotal;
+    }
+
+    /**
+     * Sets whether {@link #advance} may compute long runs with {@code HashLife}. Turn it
+     * off to time or verify the selected engine over every generation.
+     * @param enabled true to allow HashLife jumps (the default)
+     */
+    public void setHashLifeJumps(boolean enabled) {
+        hashLifeJumps = enabled;
+    }
+
+    /**
+     * Checks whether {@code HashLife} can compute this board exactly: it must be bounded,
+     * with dead edges and rules that only count the 3x3 neighborhood.
+     */
+    private boolean supportsHashLife() {
+        return hashLifeJumps && world == null && boundaryMode == BoundaryMode.DEAD
+                && !rules.hasExtendedNeighborhoods();
+    }
+
+    /**
+     * Returns the number of living cells of one type. The first call after an edit
+     * counts the whole board; generation steps then keep the counts up to date from
+     * the cells they changed.
+     * @param type the cell type
+     * @return the number of its living cells
+     */
+    public int getLivingCount(CellType type) {
+        if (livingByTypeModification != modificationCount) {
+            Arrays.fill(livingByType, 0);
+            int cells = logicRows * logicCols;
+            for (int index = 0; index < cells; index++) {
+                livingByType[cellTypes[index]] += alive[index];
+            }
+            livingByTypeModification = modificationCount;
+        }
+        return livingByType[type.ordinal()];
+    }
+
+    /**
+     * Returns the number of cells that came alive in the most recent generation step.
+     * @return the births of the last step
+     */
+    public int getLastBirths() {
+        return lastBirths;
+    }
+
+    /**
+     * Returns the number of living cells that died in the most recent generation step.
+     * @return the deaths of the last step
+     */
+    public int getLastDeaths() {
+        return lastDeaths;
+    }
+
+    /**
+     * Sets the metrics that every generation step records its phase timings, births and
+     * deaths into. Steps skipped by {@link #advance} are not recorded.
+     * @param metrics the metrics to record into, or null to stop recording
+     */
+    public void setMetrics(SimulationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics the board records into.
+     * @return the metrics, or null if none are set
+     */
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Estimates the memory the board uses: its three planes, the changed-cell bitmap and
+     * the recorded history. The caches of the engines and an unbounded world are not
+     * included.
+     * @return the estimated size in bytes
+     */
+    public long getEstimatedBytes() {
+        long cells = (long) logicRows * logicCols;
+        long changedWords = (long) logicRows * ((logicCols + 63) >>> 6);
+        return 3 * cells + 8 * changedWords + getHistoryBytes();
+    }
+
+    /**
+     * Returns the period with which the board repeats, as found by hashing the recent
+     * generations. Only periods of up to 64 generations are detected, and nothing is
+     * detected while the board is unbounded.
+     *
+     * @return 1 for a still life, the period of an oscillator, or 0 if no repetition was found
+     */
+    public int getPeriod() {
+        return cycleDetector.getPeriod();
+    }
+
+    /**
+     * Returns the first generation of the detected cycle.
+     * @return the generation, or -1 if no repetition was found
+     */
+    public int getCycleStart() {
+        return cycleDetector.getCycleStart();
+    }
+
+    /**
+     * Records the cells of the visible window whose state differs between the alive planes.
+     */
+    private void markWindowChanges() {
+        for (int r = 0; r < logicRows; r++) {
+            int rowStart = r * logicCols;
+            for (int c = 0; c < logicCols; c++) {
+                if (alive[rowStart + c] != nextAlive[rowStart + c]) {
+                    changedCells.mark(r, c);
+                }
+            }
+        }
+    }
+
+    /**
+     * Selects the engine used to compute subsequent generations.
+     * @param engine the engine to use (must not be null or attached to another board)
+     */
+    public void setEngine(GenerationEngine engine) {
+        engine.reset();
+        this.engine = engine;
+    }
+
+    /**
+     * Replaces the rules of the cell types. The registry is copied and compiled into the
+     * lookup table used by the engines, so later changes to it do not affect the board.
+     * While any rule counts another neighborhood than the classic 3x3 one, generations
+     * are computed by a {@code LargerThanLifeEngine} unless the selected engine supports it.
+     *
+     * @param rules the rules to follow
+     * @throws IllegalArgumentException if the world is unbounded and the rules bring
+     * empty space alive or use larger neighborhoods
+     */
+    public void setRules(RuleRegistry rules) {
+        if (world != null && rules.birthOnZero()) {
+            throw new IllegalArgumentException("Rules with birth on 0 neighbors cannot run in an unbounded world");
+        }
+        if (world != null && rules.hasExtendedNeighborhoods()) {
+            throw new IllegalArgumentException("Rules with larger neighborhoods cannot run in an unbounded world");
+        }
+        this.rules = new RuleRegistry(rules);
+        ruleTable = this.rules.compile();
+        if (world != null) {
+            world.setRules(new BitSlicedRules(this));
+        }
+        markModified();
+    }
+
+    /**
+     * Returns a copy of the rules the cell types follow.
+     * @return the rules
+     */
+    public RuleRegistry getRules() {
+        return new RuleRegistry(rules);
+    }
+
+    /**
+     * Selects what lies beyond the edges of the board. Engines that only support dead
+     * edges are replaced by a parallel {@code BitboardEngine} while another mode is set.
+     * The mode has no effect while the world is unbounded.
+     * @param mode the boundary mode
+     */
+    public void setBoundaryMode(BoundaryMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("The boundary mode must not be null");
+        }
+        if (mode != boundaryMode) {
+            boundaryMode = mode;
+            markModified();
+        }
+    }
+
+    /**
+     * Returns what lies beyond the edges of the board.
+     * @return the boundary mode
+     */
+    public BoundaryMode getBoundaryMode() {
+        return boundaryMode;
+    }
+
+    /**
+     * Switches between the fixed board and an unbounded world. When enabled, the current
+     * board is loaded into a {@code SparseWorld} and becomes a window onto it at the world
+     * origin; life that leaves the window keeps evolving. When disabled, the window is kept
+     * and everything outside it is discarded.
+     *
+     * @param unbounded true to simulate an unbounded world
+     * @throws IllegalStateException if enabling it while the rules bring empty space alive
+     * or use larger neighborhoods
+     */
+    public void setUnbounded(boolean unbounded) {
+        if (!unbounded) {
+            world = null;
+            markModified();
+            return;
+        }
+        if (world != null) {
+            return;
+        }
+        if (rules.birthOnZero()) {
+            throw new IllegalStateException("Rules with birth on 0 neighbors cannot run in an unbounded world");
+        }
+        if (rules.hasExtendedNeighborhoods()) {
+            throw new IllegalStateException("Rules with larger neighborhoods cannot run in an unbounded world");
+        }
+        world = new SparseWorld(this);
+        if (history != null) {
+            history.clear();
+        }
+        cycleDetector.invalidate();
+        for (int r = 0; r < logicRows; r++) {
+            for (int c = 0; c < logicCols; c++) {
+                int index = r * logicCols + c;
+                world.setCell(r, c, CELL_TYPES[cellTypes[index]], alive[index] != 0);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the board is a window onto an unbounded world.
+     * @return true if the world is unbounded
+     */
+    public boolean isUnbounded() {
+        return world != null;
+    }
+
+    /**
+     * Returns the number of living cells, including those outside the visible
+     * window when the world is unbounded.
+     * @return the total population
+     */
+    public long getWorldPopulation() {
+        if (world != null) {
+            return world.getPopulation();
+        }
+        long population = 0;
+        for (byte state : alive) {
+            population += state;
+        }
+        return population;
+    }
+
+    /**
+     * Computes the bounding box of every living cell, including those outside the
+     * visible window when the world is unbounded.
+     * @return the inclusive bounds, or null if nothing is alive
+     */
+    public SparseWorld.Bounds getWorldBounds() {
+        if (world != null) {
+            return world.getBounds();
+        }
+        int top = Integer.MAX_VALUE;
+        int left = Integer.MAX_VALUE;
+        int bottom = -1;
+        int right = -1;
+        for (int r = 0; r < logicRows; r++) {
+            for (int c = 0; c < logicCols; c++) {
+                if (alive[r * logicCols + c] != 0) {
+                    top = Math.min(top, r);
+                    left = Math.min(left, c);
+                    bottom = Math.max(bottom, r);
+                    right = Math.max(right, c);
+                }
+            }
+        }
+        return bottom < 0 ? null : new SparseWorld.Bounds(top, left, bottom, right);
+    }
+
+    /* ---------- HISTORY ---------- */
+    /**
+     * Enables rewinding by recording past generations within a memory budget. Older
+     * generations are evicted first once the budget is reached. Resizing the board or
+     * making it unbounded clears the history, and nothing is recorded while it is unbounded.
+     *
+     * @param budgetBytes the memory budget in bytes, or 0 to disable the history
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public void setHistoryBudget(long budgetBytes) {
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException("The history budget must not be negative");
+        }
+        if (budgetBytes == 0) {
+            history = null;
+        } else if (history == null) {
+            history = new GenerationHistory(budgetBytes);
+        } else {
+            history.setBudget(budgetBytes);
+        }
+    }
+
+    /**
+     * Returns the memory budget of the history.
+     * @return the budget in bytes, or 0 if the history is disabled
+     */
+    public long getHistoryBudget() {
+        return history == null ? 0 : history.getBudget();
+    }
+
+    /**
+     * Returns the estimated memory used by the recorded generations.
+     * @return the size in bytes
+     */
+    public long getHistoryBytes() {
+        return history == null ? 0 : history.getBytes();
+    }
+
+    /**
+     * Returns the oldest generation that can be restored.
+     * @return the generation, or -1 if nothing is recorded
+     */
+    public int getHistoryStart() {
+        return history == null ? -1 : history.getFirstGeneration();
+    }
+
+    /**
+     * Returns the newest generation that can be restored, which is past the current one
+     * after rewinding. Stepping from a rewound generation discards the newer ones.
+     * @return the generation, or -1 if nothing is recorded
+     */
+    public int getHistoryEnd() {
+        return history == null ? -1 : history.getLastGeneration();
+    }
+
+    /**
+     * Restores the previous generation from the history.
+     * @return true if it was restored, false if it is not recorded
+     */
+    public boolean stepBack() {
+        return jumpToGeneration(generationCount - 1);
+    }
+
+    /**
+     * Restores a recorded generation, including its statistics. Cells that differ from
+     * the current board are added to {@link #getChangedCells}.
+     *
+     * @param generation the generation to restore
+     * @return true if it was restored, false if it is not recorded
+     */
+    public boolean jumpToGeneration(int generation) {
+        if (history == null || world != null || !history.contains(generation)) {
+            return false;
+        }
+        history.restore(this, generation);
+        modificationCount++;
+        cycleDetector.invalidate();
+        engine.reset();
+        history.synchronize(this);
+        return true;
+    }
+
+    /**
+     * Returns the name of the engine that computes the next generation: the selected
+     * engine, the engine it falls back to for the rules or boundary, or the sparse
+     * world while the board is unbounded.
+     * @return the engine name
+     */
+    public String getActiveEngineName() {
+        return world != null ? "Sparse World" : stepEngine().getName();
+    }
+
+    /**
+     * Returns the engine used to compute generations.
+     * @return the current {@code GenerationEngine}
+     */
+    public GenerationEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Inverts the living state of a specific cell; if it is alive,
+     * it becomes dead, and vice versa.
+     *
+     * @param row the row index of the target cell
+     * @param col the column index of the target cell
+     */
+    public void toggleLiving(int row, int col) {
+        int index = row * logicCols + col;
+        cycleDetector.cellEdited(alive, index, cellTypes[index], alive[index], cellTypes[index], alive[index] ^ 1);
+        alive[index] ^= 1;
+        modificationCount++;
+        changedCells.mark(row, col);
+        engine.cellEdited(this, row, col);
+        if (world != null) {
+            world.setCell(row, col, CELL_TYPES[cellTypes[index]], alive[index] != 0);
+        }
+    }
+
+    /**
+     * Checks the current living state of the cell at the given coordinates.
+     *
+     * @param row the row index of the target cell
+     * @param col the column index of the target cell
+     * @return true if the cell is alive, false otherwise
+     */
+    public boolean isAlive(int row, int col) {
+        return alive[row * logicCols + col] != 0;
+    }
+
+    /**
+     * Returns the {@code CellType} of the cell at the given coordinates
+     * without creating a cell object.
+     *
+     * @param row the row index of the target cell
+     * @param col the column index of the target cell
+     * @return the type of the cell
+     */
+    public CellType getCellType(int row, int col) {
+        return CELL_TYPES[cellTypes[row * logicCols + col]];
+    }
+
+    /**
+     * Creates an {@code AbstractCell} describing the cell at the given coordinates.
+     * The returned object is a detached view; use {@link #setCell} to change the board.
+     *
+     * @param row the row index of the target cell
+     * @param col the column index of the target cell
+     * @return an {@code AbstractCell} matching the type and state at the specified location
+     */
+    public AbstractCell getCell(int row, int col) {
+        int index = row * logicCols + col;
+        AbstractCell cell = CELL_TYPES[cellTypes[index]].createCell(false);
+        cell.setAlive(alive[index] != 0);
+        return cell;
+    }
+
+    /**
+     * Stores the type and living state of the given {@code AbstractCell} at the specified
+     * coordinates (e.g., swapping an {@code AnimalCell} for a {@code WallCell}).
+     *
+     * @param row  the row index of the target cell
+     * @param col  the column index of the target cell
+     * @param cell the {@code AbstractCell} whose type and state are placed at the coordinates
+     */
+    public void setCell(int row, int col, AbstractCell cell) {
+        int index = row * logicCols + col;
+        byte type = (byte) cell.getCellType().ordinal();
+        byte state = (byte) (cell.isAlive() ? 1 : 0);
+        cycleDetector.cellEdited(alive, index, cellTypes[index], alive[index], type, state);
+        cellTypes[index] = type;
+        alive[index] = state;
+        modificationCount++;
+        changedCells.mark(row, col);
+        engine.cellEdited(this, row, col);
+        if (world != null) {
+            world.setCell(row, col, cell.getCellType(), cell.isAlive());
+        }
+    }
+
+    /**
+     * Returns the cells whose state or type changed during the generations and edits
+     * since the last call to {@link #clearChangedCells}. Engines record their changes
+     * here while stepping; reallocating or bulk-loading the board flags every cell.
+     *
+     * @return the live change bitmap (not a copy)
+     */
+    public ChangedCells getChangedCells() {
+        return changedCells;
+    }
+
+    /**
+     * Forgets the recorded changes, typically once the view has repainted them.
+     */
+    public void clearChangedCells() {
+        changedCells.clear();
+    }
+
+    /* ---------- ENGINE ACCESS ---------- */
+    /**
+     * Returns the type plane, one {@code CellType} ordinal per cell in row-major order.
+     * @return the live type plane (not a copy)
+     */
+    byte[] cellTypePlane() {
+        return cellTypes;
+    }
+
+    /**
+     * Returns the alive plane of the current generation, 1 for alive and 0 for dead.
+     * @return the live alive plane (not a copy)
+     */
+    byte[] alivePlane() {
+        return alive;
+    }
+
+    /**
+     * Returns the spare alive plane that the next generation is written into.
+     * @return the spare alive plane (not a copy)
+     */
+    byte[] nextAlivePlane() {
+        return nextAlive;
+    }
+
+    /**
+     * Returns the rule table compiled from the registry. The entry at
+     * {@code type << RuleRegistry.TYPE_SHIFT | alive << RuleRegistry.ALIVE_SHIFT | n}
+     * is 1 when a cell of that type and state with {@code n} living neighbors is alive
+     * in the next generation, and 0 otherwise.
+     * @return the rule table (not a copy)
+     */
+    byte[] ruleTable() {
+        return ruleTable;
+    }
+
+    /**
+     * Reads the rule of a cell type for every neighbor count from 0 to 8.
+     * Bit {@code n} of the result is set when a cell of that type and state
+     * is alive in the next generation with {@code n} living neighbors.
+     *
+     * @param cellType the {@code CellType} ordinal
+     * @param isAlive  the current state of the cell
+     * @return a 9-bit mask of the neighbor counts that produce a living cell
+     */
+    int ruleMask(int cellType, boolean isAlive) {
+        LifeRule rule = rules.getRule(CELL_TYPES[cellType]);
+        return isAlive ? rule.survivalMask() : rule.birthMask();
+    }
+
+    /**
+     * Returns a counter that changes whenever the planes are edited or reallocated
+     * outside of a generation step, letting engines detect stale caches.
+     * @return the modification count
+     */
+    int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Records that the planes were reallocated or written directly by another component,
+     * invalidating anything the engine cached about them and flagging every cell as changed.
+     */
+    void markModified() {
+        modificationCount++;
+        cycleDetector.invalidate();
+        changedCells.markAll();
+        engine.reset();
+        if (extendedEngine != null) {
+            extendedEngine.reset();
+        }
+        if (boundaryEngine != null) {
+            boundaryEngine.reset();
+        }
+    }
+
+    /**
+     * Overwrites the generation statistics, e.g. after the planes were restored or
+     * advanced by another component.
+     *
+     * @param generation the generation count
+     * @param living     the number of living cells
+     * @param deceased   the cumulative number of deceased cells
+     */
+    void restoreStatistics(int generation, int living, int deceased) {
+        generationCount = generation;
+        livingCount = living;
+        deceasedCount = deceased;
+    }
+
+    /* ---------- BOARD INFO ---------- */
+    /**
+     * Returns the number of rows in the grid.
+     * @return the row count
+     */
+    public int getRows() {
+        return logicRows;
+    }
+
+    /**
+     * Returns the number of columns in the grid.
+     * @return the column count
+     */
+    public int getCols() {
+        return logicCols;
+    }
+
+    /**
+     * Retrieves the total number of generations (ticks) that have occurred
+     * since the simulation started.
+     *
+     * @return the generation count
+     */
+    public int getGenerationCount() {
+        return generationCount;
+    }
+
+    /**
+     * Returns the current population count of all alive cells on the board
+     * for the current generation.
+     *
+     * @return the number of living cells
+     */
+    public int getLivingCount() {
+        return livingCount;
+    }
+
+    /**
+     * Returns the cumulative number of cells that have transitioned from alive
+     * to dead over the course of the simulation.
+     *
+     * @return the total number of deceased cells
+     */
+    public int getDeceasedCount() {
+        return deceasedCount;
+    }
+}
@@ -0,0 +1,287 @@
+package gameoflife.core;
+
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A life-like rule: the {@code Neighborhood} whose living cells are counted, the counts
+ * that bring a dead cell alive (birth) and the counts that keep a living cell alive
+ * (survival). Rules are written in the standard {@code B.../S...} notation for the
+ * classic 3x3 neighborhood (Conway's Life is {@code B3/S23}), and in Golly's Larger
+ * than Life notation for any other:
+ *
+ * <pre>
+ * R5,C0,M1,S34..58,B34..45,NM
+ *
+ * R    the radius                    C    the number of states (0 or 2)
+ * M    1 to count the cell itself    S/B  the survival and birth ranges
+ * N    M for Moore, N for von Neumann
+ * </pre>
+ *
+ * The classic rules are the radius 1 case, so {@code R1,C0,M0,S2..3,B3..3,NM} is
+ * {@code B3/S23}.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public final class LifeRule {
+    private static final int CLASSIC_COUNTS = (1 << 9) - 1;
+
+    private final Neighborhood neighborhood;
+    // Bit n is set when a cell with n living neighbors is born or survives
+    private final BitSet birth;
+    private final BitSet survival;
+
+    /**
+     * Constructs a rule for the classic 3x3 neighborhood.
+     * @param birthMask    a 9-bit mask; bit {@code n} is set when a dead cell with
+     *                     {@code n} living neighbors comes alive
+     * @param survivalMask a 9-bit mask; bit {@code n} is set when a living cell with
+     *                     {@code n} living neighbors stays alive
+     * @throws IllegalArgumentException if a mask holds counts above 8
+     */
+    public LifeRule(int birthMask, int survivalMask) {
+        if ((birthMask & ~CLASSIC_COUNTS) != 0 || (survivalMask & ~CLASSIC_COUNTS) != 0) {
+            throw new IllegalArgumentException("Rule masks may only hold neighbor counts from 0 to 8");
+        }
+        this.neighborhood = Neighborhood.MOORE;
+        this.birth = BitSet.valueOf(new long[] { birthMask });
+        this.survival = BitSet.valueOf(new long[] { survivalMask });
+    }
+
+    /**
+     * Constructs a rule that is born and survives on ranges of counts.
+     * @param neighborhood the cells counted
+     * @param birthMin     the lowest count that brings a dead cell alive
+     * @param birthMax     the highest count that brings a dead cell alive
+     * @param survivalMin  the lowest count that keeps a living cell alive
+     * @param survivalMax  the highest count that keeps a living cell alive
+     * @throws IllegalArgumentException if a range is empty or exceeds the neighborhood size
+     */
+    public LifeRule(Neighborhood neighborhood, int birthMin, int birthMax, int survivalMin, int survivalMax) {
+        this.neighborhood = Objects.requireNonNull(neighborhood, "neighborhood");
+        this.birth = range("birth", birthMin, birthMax, neighborhood.size());
+        this.survival = range("survival", survivalMin, survivalMax, neighborhood.size());
+    }
+
+    private static BitSet range(String name, int min, int max, int size) {
+        if (min < 0 || min > max || max > size) {
+            throw new IllegalArgumentException("Invalid " + name + " range " + min + ".." + max
+                    + " for a neighborhood of " + size + " cells");
+        }
+        BitSet counts = new BitSet(size + 1);
+        counts.set(min, max + 1);
+        return counts;
+    }
+
+    /* ---------- PARSING ---------- */
+    /**
+     * Parses a rule string. Accepts {@code B3/S23} in either order and any case, the
+     * older survival/birth form {@code 23/3}, and Larger than Life rules such as
+     * {@code R5,C0,M1,S34..58,B34..45,NM}.
+     *
+     * @param rule the rule string
+     * @return the parsed rule
+     * @throws IllegalArgumentException if the string is not a valid rule
+     */
+    public static LifeRule parse(String rule) {
+        String text = rule.strip();
+        if (text.indexOf(',') >= 0 || text.toUpperCase(Locale.ROOT).startsWith("R")) {
+            return parseLargerThanLife(text);
+        }
+
+        String[] parts = text.split("/", -1);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected a rule like B3/S23, got \"" + rule + "\"");
+        }
+        int birth = -1;
+        int survival = -1;
+        for (int i = 0; i < 2; i++) {
+            String part = parts[i].strip();
+            char prefix = part.isEmpty() ? ' ' : Character.toUpperCase(part.charAt(0));
+            if (prefix == 'B' && birth < 0) {
+                birth = counts(part.substring(1), rule);
+            } else if (prefix == 'S' && survival < 0) {
+                survival = counts(part.substring(1), rule);
+            } else if (Character.isDigit(prefix) || part.isEmpty()) {
+                // Survival/birth notation without letters
+                if (i == 0) survival = counts(part, rule);
+                else birth = counts(part, rule);
+            } else {
+                throw new IllegalArgumentException("Expected a rule like B3/S23, got \"" + rule + "\"");
+            }
+        }
+        if (birth < 0 || survival < 0) {
+            throw new IllegalArgumentException("Expected a rule like B3/S23, got \"" + rule + "\"");
+        }
+        return new LifeRule(birth, survival);
+    }
+
+    private static int counts(String digits, String rule) {
+        int mask = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            char digit = digits.charAt(i);
+            if (digit < '0' || digit > '8') {
+                throw new IllegalArgumentException("Invalid neighbor count '" + digit + "' in rule \"" + rule + "\"");
+            }
+            mask |= 1 << (digit - '0');
+        }
+        return mask;
+    }
+
+    /**
+     * Parses the comma-separated fields of a Larger than Life rule, in any order.
+     * {@code R}, {@code S} and {@code B} are required; {@code C}, {@code M} and
+     * {@code N} default to two states, the center excluded and Moore.
+     */
+    private static LifeRule parseLargerThanLife(String rule) {
+        int radius = -1;
+        boolean includesCenter = false;
+        Neighborhood.Shape shape = Neighborhood.Shape.MOORE;
+        int[] birth = null;
+        int[] survival = null;
+
+        for (String field : rule.split(",")) {
+            String part = field.strip().toUpperCase(Locale.ROOT);
+            if (part.isEmpty()) {
+                throw new IllegalArgumentException("Empty field in rule \"" + rule + "\"");
+            }
+            String value = part.substring(1);
+            switch (part.charAt(0)) {
+                case 'R' -> radius = number(value, rule);
+                case 'C' -> {
+                    int states = number(value, rule);
+                    if (states != 0 && states != 2) {
+                        throw new IllegalArgumentException("Only two-state rules are supported, got C" + states);
+                    }
+                }
+                case 'M' -> includesCenter = number(value, rule) != 0;
+                case 'S' -> survival = countRange(value, rule);
+                case 'B' -> birth = countRange(value, rule);
+                case 'N' -> shape = switch (value) {
+                    case "M" -> Neighborhood.Shape.MOORE;
+                    case "N" -> Neighborhood.Shape.VON_NEUMANN;
+                    default -> throw new IllegalArgumentException(
+                            "Unsupported neighborhood N" + value + " in rule \"" + rule + "\"");
+                };
+                default -> throw new IllegalArgumentException(
+                        "Unknown field " + field.strip() + " in rule \"" + rule + "\"");
+            }
+        }
+        if (radius < 0 || birth == null || survival == null) {
+            throw new IllegalArgumentException("Expected a rule like R5,C0,M1,S34..58,B34..45,NM, got \"" + rule + "\"");
+        }
+        return new LifeRule(new Neighborhood(shape, radius, includesCenter),
+                birth[0], birth[1], survival[0], survival[1]);
+    }
+
+    private static int[] countRange(String value, String rule) {
+        int dots = value.indexOf("..");
+        if (dots < 0) {
+            int count = number(value, rule);
+            return new int[] { count, count };
+        }
+        return new int[] { number(value.substring(0, dots), rule), number(value.substring(dots + 2), rule) };
+    }
+
+    private static int number(String value, String rule) {
+        try {
+            return Integer.parseInt(value.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number \"" + value + "\" in rule \"" + rule + "\"");
+        }
+    }
+
+    /* ---------- RULE INFO ---------- */
+    /**
+     * Returns the cells whose living neighbors the rule counts.
+     * @return the neighborhood
+     */
+    public Neighborhood getNeighborhood() {
+        return neighborhood;
+    }
+
+    /**
+     * Returns the birth counts of a rule for the classic 3x3 neighborhood.
+     * @return a 9-bit mask; bit {@code n} is set when a dead cell with {@code n} living
+     * neighbors comes alive
+     * @throws IllegalStateException if the rule uses another neighborhood
+     */
+    public int birthMask() {
+        return classicMask(birth);
+    }
+
+    /**
+     * Returns the survival counts of a rule for the classic 3x3 neighborhood.
+     * @return a 9-bit mask; bit {@code n} is set when a living cell with {@code n} living
+     * neighbors stays alive
+     * @throws IllegalStateException if the rule uses another neighborhood
+     */
+    public int survivalMask() {
+        return classicMask(survival);
+    }
+
+    private int classicMask(BitSet counts) {
+        if (!neighborhood.isClassic()) {
+            throw new IllegalStateException("The rule " + this + " does not use the 3x3 neighborhood");
+        }
+        return counts.isEmpty() ? 0 : (int) counts.toLongArray()[0];
+    }
+
+    /**
+     * Checks whether the rule never brings a cell alive or keeps one alive.
+     * @return true if the rule is lifeless
+     */
+    public boolean isLifeless() {
+        return birth.isEmpty() && survival.isEmpty();
+    }
+
+    /**
+     * Applies the rule to a single cell.
+     * @param isAlive         the current state of the cell
+     * @param livingNeighbors the number of living cells in its neighborhood
+     * @return true if the cell is alive in the next generation
+     */
+    public boolean nextState(boolean isAlive, int livingNeighbors) {
+        return livingNeighbors >= 0 && (isAlive ? survival : birth).get(livingNeighbors);
+    }
+
+    /**
+     * Returns the rule in {@code B.../S...} notation for the classic neighborhood,
+     * or in Larger than Life notation for any other.
+     * @return the rule string, e.g. {@code B3/S23}
+     */
+    @Override
+    public String toString() {
+        if (neighborhood.isClassic()) {
+            StringBuilder rule = new StringBuilder("B");
+            appendCounts(rule, birth);
+            rule.append("/S");
+            appendCounts(rule, survival);
+            return rule.toString();
+        }
+        return String.format(Locale.ROOT, "R%d,C0,M%d,S%d..%d,B%d..%d,N%c",
+                neighborhood.radius(), neighborhood.includesCenter() ? 1 : 0,
+                survival.nextSetBit(0), survival.length() - 1, birth.nextSetBit(0), birth.length() - 1,
+                neighborhood.shape() == Neighborhood.Shape.MOORE ? 'M' : 'N');
+    }
+
+    private static void appendCounts(StringBuilder rule, BitSet counts) {
+        for (int n = counts.nextSetBit(0); n >= 0; n = counts.nextSetBit(n + 1)) {
+            rule.append(n);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof LifeRule rule && neighborhood.equals(rule.neighborhood)
+                && birth.equals(rule.birth) && survival.equals(rule.survival);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(neighborhood, birth, survival);
+    }
+}
@@ -0,0 +1,295 @@
+package gameoflife.core;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Headless command-line runner. Loads a board in {@code PlaintextFormat}, or in
+ * {@code RleFormat} when the file name ends in {@code .rle}, advances it by
+ * a number of generations as fast as possible with the chosen engine, optionally writes
+ * the final board, and prints the {@code LifeLogic} statistics along with the
+ * throughput in cell updates per second. Once the board settles into a still life or
+ * an oscillator, the remaining generations are skipped whole periods at a time.
+ * With {@code --verify}, every generation is instead stepped one at a time and checked
+ * against the per-cell rules of the {@code AbstractCell} subclasses. With {@code --series},
+ * every generation is stepped and added to a {@code PopulationSeries}, written as CSV at the end.
+ *
+ * <pre>
+ * Usage:           LifeRunner [options] &lt;input&gt; &lt;generations&gt; [output]
+ *
+ * Options:         --engine scalar|bitboard|parallel|tiles|neighbors|ltl|vector|hashlife   (default: parallel)
+ * --unbounded      simulate an unbounded world around the board
+ * --rules          a {@code RuleRegistry} properties file with the rule of each cell type
+ * --boundary       dead|toroidal|mirrored, what lies beyond the edges   (default: dead)
+ * --verify         check every generation against the per-cell rules
+ * --series         a CSV file to write the population of every generation to
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public final class LifeRunner {
+    private static final String USAGE = """
+            Usage: LifeRunner [options] <input> <generations> [output]
+              --engine scalar|bitboard|parallel|tiles|neighbors|ltl|vector|hashlife   engine to use (default: parallel)
+              --unbounded                                                             simulate an unbounded world around the board
+              --rules <file>                                                          properties file of rules per cell type
+              --boundary dead|toroidal|mirrored                                       what lies beyond the edges (default: dead)
+              --verify                                                                check every generation against the per-cell rules
+              --series <file>                                                         write the population of every generation as CSV""";
+    private static final List<String> ENGINES = List.of("scalar", "bitboard", "parallel", "tiles", "neighbors", "ltl", "vector", "hashlife");
+
+    private LifeRunner() {
+    }
+
+    /**
+     * Runs the command line.
+     * @param args the command-line arguments
+     * @throws IOException if the output cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        String engineName = "parallel";
+        boolean unbounded = false;
+        String rulesFile = null;
+        String boundaryName = "dead";
+        boolean verify = false;
+        String seriesFile = null;
+        String[] positional = new String[3];
+        int positionalCount = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--engine" -> {
+                    if (++i == args.length) usage("Missing value for --engine");
+                    engineName = args[i];
+                }
+                case "--unbounded" -> unbounded = true;
+                case "--rules" -> {
+                    if (++i == args.length) usage("Missing value for --rules");
+                    rulesFile = args[i];
+                }
+                case "--boundary" -> {
+                    if (++i == args.length) usage("Missing value for --boundary");
+                    boundaryName = args[i];
+                }
+                case "--verify" -> verify = true;
+                case "--series" -> {
+                    if (++i == args.length) usage("Missing value for --series");
+                    seriesFile = args[i];
+                }
+                case "-h", "--help" -> {
+                    System.out.println(USAGE);
+                    return;
+                }
+                default -> {
+                    if (args[i].startsWith("--")) usage("Unknown option " + args[i]);
+                    if (positionalCount == positional.length) usage("Too many arguments");
+                    positional[positionalCount++] = args[i];
+                }
+            }
+        }
+        if (positionalCount < 2) usage("Missing input or generation count");
+        if (!ENGINES.contains(engineName)) usage("Unknown engine " + engineName);
+        if (unbounded && engineName.equals("hashlife")) usage("--unbounded cannot be combined with --engine hashlife");
+        BoundaryMode boundary = null;
+        try {
+            boundary = BoundaryMode.valueOf(boundaryName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            usage("Unknown boundary " + boundaryName);
+        }
+        if (boundary != BoundaryMode.DEAD && unbounded) usage("--unbounded cannot be combined with --boundary " + boundaryName);
+        if (boundary != BoundaryMode.DEAD && engineName.equals("hashlife")) {
+            usage("--engine hashlife cannot be combined with --boundary " + boundaryName);
+        }
+        if (verify && (unbounded || engineName.equals("hashlife") || rulesFile != null)) {
+            usage("--verify cannot be combined with --unbounded, --engine hashlife or --rules");
+        }
+        if (seriesFile != null && engineName.equals("hashlife")) usage("--series cannot be combined with --engine hashlife");
+
+        long generations = 0;
+        try {
+            generations = Long.parseLong(positional[1]);
+        } catch (NumberFormatException e) {
+            usage("Invalid generation count " + positional[1]);
+        }
+        if (generations < 0) usage("The generation count must not be negative");
+        if (generations > Integer.MAX_VALUE) usage("The generation count must not exceed " + Integer.MAX_VALUE);
+
+        LifeLogic logic;
+        try {
+            logic = load(Path.of(positional[0]));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Cannot load " + positional[0] + ": " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (rulesFile != null) {
+            try {
+                RuleRegistry rules = RuleRegistry.load(Path.of(rulesFile));
+                if (unbounded && rules.birthOnZero()) usage("--unbounded cannot be combined with rules that bring empty cells alive");
+                if (unbounded && rules.hasExtendedNeighborhoods()) usage("--unbounded cannot be combined with rules with larger neighborhoods");
+                if (engineName.equals("hashlife") && rules.hasExtendedNeighborhoods()) {
+                    usage("--engine hashlife cannot be combined with rules with larger neighborhoods");
+                }
+                logic.setRules(rules);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Cannot load rules " + rulesFile + ": " + e.getMessage());
+                System.exit(1);
+                return;
+            }
+        }
+        logic.setBoundaryMode(boundary);
+
+        PopulationSeries series = seriesFile != null ? new PopulationSeries() : null;
+        long start = System.nanoTime();
+        Outcome outcome = run(logic, engineName, unbounded, verify, series, generations);
+        long elapsed = System.nanoTime() - start;
+
+        if (positional[2] != null) {
+            save(logic, Path.of(positional[2]));
+        }
+        if (series != null) {
+            series.writeCsv(Path.of(seriesFile));
+        }
+
+        double seconds = elapsed / 1e9;
+        // Skipped periods cost nothing, so only the generations computed count as work
+        double cellUpdates = (double) logic.getRows() * logic.getCols() * (generations - outcome.skipped());
+        System.out.printf(Locale.ROOT, "engine       %s%n", outcome.engine());
+        System.out.printf(Locale.ROOT, "board        %dx%d%n", logic.getRows(), logic.getCols());
+        System.out.printf(Locale.ROOT, "generations  %d%n", logic.getGenerationCount());
+        System.out.printf(Locale.ROOT, "living       %d%n", logic.getLivingCount());
+        System.out.printf(Locale.ROOT, "deceased     %d%n", logic.getDeceasedCount());
+        if (logic.getPeriod() > 0) {
+            System.out.printf(Locale.ROOT, "period       %d (from generation %d)%n", logic.getPeriod(), logic.getCycleStart());
+        }
+        if (outcome.skipped() > 0) {
+            System.out.printf(Locale.ROOT, "skipped      %d generations as whole periods, not timed%n", outcome.skipped());
+        }
+        if (verify) {
+            System.out.printf(Locale.ROOT, "verified     %d generations against the per-cell rules%n", generations);
+        }
+        System.out.printf(Locale.ROOT, "elapsed      %.3f s%n", seconds);
+        System.out.printf(Locale.ROOT, "throughput   %.4g cell-updates/s%n", seconds > 0 ? cellUpdates / seconds : 0);
+    }
+
+    /**
+     * Advances the board with the named engine, verifying every generation if asked to.
+     * Every generation is stepped when recorded into a series, rather than skipped.
+     * @return the name of the engine that was used and the generations skipped as whole periods
+     */
+    private static Outcome run(LifeLogic logic, String engineName, boolean unbounded, boolean verify,
+                              PopulationSeries series, long generations) {
+        if (engineName.equals("hashlife")) {
+            HashLife hashLife = new HashLife();
+            hashLife.load(logic);
+            hashLife.advance(generations);
+            hashLife.store(logic);
+            return new Outcome("HashLife", 0);
+        }
+
+        GenerationEngine engine = switch (engineName) {
+            case "scalar" -> new ScalarEngine();
+            case "bitboard" -> new BitboardEngine();
+            case "parallel" -> new ParallelEngine(new BitboardEngine());
+            case "tiles" -> new ActiveTileEngine();
+            case "neighbors" -> new NeighborCountEngine();
+            case "ltl" -> new ParallelEngine(new LargerThanLifeEngine());
+            case "vector" -> new ParallelEngine(new VectorEngine());
+            default -> throw new IllegalArgumentException("Unknown engine " + engineName);
+        };
+        logic.setEngine(engine);
+        logic.setUnbounded(unbounded);
+        // Time the chosen engine; --engine hashlife asks for HashLife outright
+        logic.setHashLifeJumps(false);
+        int skipped = 0;
+        if (verify) {
+            verify(logic, (int) generations, series);
+        } else if (series != null) {
+            for (long g = 0; g < generations; g++) {
+                logic.calculateNextGeneration();
+                series.record(logic);
+            }
+        } else {
+            skipped = logic.advance((int) generations);
+        }
+        return new Outcome(logic.getActiveEngineName(), skipped);
+    }
+
+    /**
+     * The engine a run used and the generations it skipped instead of computing.
+     * @param engine  the name of the engine
+     * @param skipped the generations skipped as whole periods
+     */
+    private record Outcome(String engine, int skipped) {
+    }
+
+    /**
+     * Steps the board one generation at a time and checks each generation against the
+     * next states computed by its cells' {@code AbstractCell.calculateNextState}.
+     * Exits with status 1 at the first cell that differs.
+     */
+    private static void verify(LifeLogic logic, int generations, PopulationSeries series) {
+        int rows = logic.getRows();
+        int cols = logic.getCols();
+        BoundaryMode boundary = logic.getBoundaryMode();
+
+        for (int g = 0; g < generations; g++) {
+            AbstractCell[][] cells = logic.getBoardState();
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    int livingNeighbors = 0;
+                    for (int dr = -1; dr <= 1; dr++) {
+                        for (int dc = -1; dc <= 1; dc++) {
+                            int row = boundary.map(r + dr, rows);
+                            int col = boundary.map(c + dc, cols);
+                            if ((dr != 0 || dc != 0) && row >= 0 && col >= 0 && cells[row][col].isAlive()) {
+                                livingNeighbors++;
+                            }
+                        }
+                    }
+                    cells[r][c].calculateNextState(livingNeighbors);
+                }
+            }
+
+            logic.calculateNextGeneration();
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    if (logic.isAlive(r, c) != cells[r][c].getNextState()) {
+                        System.err.printf(Locale.ROOT, "Generation %d differs from the per-cell rules at row %d, column %d%n",
+                                logic.getGenerationCount(), r, c);
+                        System.exit(1);
+                    }
+                }
+            }
+            if (series != null) {
+                series.record(logic);
+            }
+        }
+    }
+
+    private static LifeLogic load(Path path) throws IOException {
+        return isRle(path) ? RleFormat.read(path) : PlaintextFormat.read(path);
+    }
+
+    private static void save(LifeLogic logic, Path path) throws IOException {
+        if (isRle(path)) {
+            RleFormat.write(logic, path);
+        } else {
+            PlaintextFormat.write(logic, path);
+        }
+    }
+
+    private static boolean isRle(Path path) {
+        return path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".rle");
+    }
+
+    private static void usage(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(2);
+    }
+}
@@ -0,0 +1,285 @@
+package gameoflife.core;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs a {@code LifeLogic} board on its own thread, decoupled from the JavaFX
+ * application thread. The board is only ever touched by the simulation thread: the
+ * UI sends commands (start, stop, step, edits, board replacement) through a queue,
+ * and every finished generation is published as a {@code BoardSnapshot} that the UI
+ * picks up whenever it is ready to render, so neither side waits on the other.
+ *
+ * <pre>
+ * Implementation:  Snapshots are triple-buffered: the simulation thread writes the
+ * back buffer, then swaps it with the ready slot; the UI swaps its
+ * front buffer with the ready slot when a new snapshot is waiting.
+ * A snapshot the UI never took is merged into the next one's changed
+ * cells, so skipped frames are still repainted. Every change is also
+ * noted in the two snapshots not being written, so each copies only
+ * the rows that changed since it was last written.
+ * Metrics:         Every board the simulation runs records into the same
+ * {@code SimulationMetrics}, along with the time each snapshot takes
+ * to publish.
+ * Population:      Every generation is also added to a {@code PopulationSeries}, which
+ * starts over when the board is replaced, reset or rewound.
+ * Errors:          A command or generation that throws stops the running simulation
+ * and is reported to the {@code ErrorListener}; the thread keeps
+ * serving commands, so the board can still be edited, saved or replaced.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class LifeSimulation {
+    /**
+     * Receives the failures of commands and generations on the simulation thread.
+     */
+    @FunctionalInterface
+    public interface ErrorListener {
+        /**
+         * Called on the simulation thread after a command or generation failed. The
+         * simulation has stopped running, and every cell of the board is flagged as
+         * changed so the next snapshot repaints it as the failure left it.
+         * @param error the exception or error that was thrown
+         */
+        void failed(Throwable error);
+    }
+
+    private final BlockingQueue<Runnable> commands = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private final SimulationMetrics metrics = new SimulationMetrics();
+    private final PopulationSeries population = new PopulationSeries();
+    private volatile ErrorListener errorListener;
+
+    // Confined to the simulation thread
+    private LifeLogic logic;
+    private boolean running = false;
+    private long tickIntervalNanos;
+    private BoardSnapshot back = new BoardSnapshot();
+
+    // Guarded by this
+    private BoardSnapshot ready = new BoardSnapshot();
+    private boolean readyIsNew = false;
+    // The snapshot last taken by the UI, which it may still be reading
+    private BoardSnapshot shown;
+
+    /**
+     * Creates a simulation of the given board and starts its thread, publishing the
+     * initial state right away. The board must not be used by the caller afterwards.
+     *
+     * @param logic              the board to simulate
+     * @param tickIntervalMillis the minimum time between generations while running
+     */
+    public LifeSimulation(LifeLogic logic, double tickIntervalMillis) {
+        this.logic = logic;
+        this.tickIntervalNanos = toNanos(tickIntervalMillis);
+        logic.setMetrics(metrics);
+        publish();
+
+        thread = new Thread(this::run, "life-simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /* ---------- COMMANDS ---------- */
+    /**
+     * Starts computing generations continuously.
+     */
+    public void start() {
+        commands.add(() -> running = true);
+    }
+
+    /**
+     * Stops computing generations after the current one.
+     */
+    public void stop() {
+        commands.add(() -> running = false);
+    }
+
+    /**
+     * Computes a single generation and publishes it.
+     */
+    public void step() {
+        commands.add(() -> {
+            logic.calculateNextGeneration();
+            population.record(logic);
+            publish();
+        });
+    }
+
+    /**
+     * Changes the minimum time between generations while running.
+     * @param tickIntervalMillis the interval in milliseconds (0 to run as fast as possible)
+     */
+    public void setTickInterval(double tickIntervalMillis) {
+        long nanos = toNanos(tickIntervalMillis);
+        commands.add(() -> tickIntervalNanos = nanos);
+    }
+
+    /**
+     * Replaces the simulated board, e.g. to clear or reset it, and publishes it.
+     * The board must not be used by the caller afterwards.
+     * @param newLogic the new board
+     */
+    public void replaceBoard(LifeLogic newLogic) {
+        commands.add(() -> {
+            logic = newLogic;
+            logic.setMetrics(metrics);
+            population.clear();
+            publish();
+        });
+    }
+
+    /**
+     * Runs an arbitrary edit against the board on the simulation thread, then
+     * publishes the result.
+     * @param edit the edit to apply
+     */
+    public void edit(Consumer<LifeLogic> edit) {
+        commands.add(() -> {
+            edit.accept(logic);
+            publish();
+        });
+    }
+
+    /**
+     * Sets the listener that failed commands and generations are reported to.
+     * @param listener the listener, called on the simulation thread, or null to only stop
+     */
+    public void setErrorListener(ErrorListener listener) {
+        errorListener = listener;
+    }
+
+    /**
+     * Stops the simulation thread. Pending commands are discarded.
+     */
+    public void shutdown() {
+        thread.interrupt();
+    }
+
+    /**
+     * Returns the metrics of the simulation, which the UI may also record its own
+     * phases into.
+     * @return the metrics
+     */
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the population of every generation computed on the current board. It
+     * keeps recording, so take a {@code copy} of it to read it at leisure.
+     * @return the population series
+     */
+    public PopulationSeries getPopulation() {
+        return population;
+    }
+
+    /* ---------- SNAPSHOTS ---------- */
+    /**
+     * Takes the most recently published snapshot if it is newer than the last one taken.
+     * Never blocks on the simulation. The returned snapshot stays valid until the next
+     * call that returns a new snapshot.
+     *
+     * @param front the snapshot the caller currently holds, handed back for reuse (may be null)
+     * @return the new snapshot, or null if nothing was published since the last call
+     */
+    public synchronized BoardSnapshot takeSnapshot(BoardSnapshot front) {
+        if (!readyIsNew) {
+            return null;
+        }
+        BoardSnapshot taken = ready;
+        // Only the snapshot handed out last knows which rows it lacks
+        ready = front != null && front == shown ? front : new BoardSnapshot();
+        shown = taken;
+        readyIsNew = false;
+        return taken;
+    }
+
+    /**
+     * Copies the changed rows of the board into the back buffer and swaps it into the
+     * ready slot. The other two snapshots note the changed rows for their next capture.
+     */
+    private void publish() {
+        long startNanos = System.nanoTime();
+        back.capture(logic);
+
+        BoardSnapshot previous;
+        synchronized (this) {
+            ready.markStale(logic.getChangedCells());
+            if (shown != null) {
+                shown.markStale(logic.getChangedCells());
+            }
+            if (readyIsNew) {
+                back.includeChanges(ready);
+            }
+            previous = ready;
+            ready = back;
+            readyIsNew = true;
+        }
+        back = previous;
+        logic.clearChangedCells();
+
+        metrics.record(SimulationMetrics.Phase.PUBLISH, System.nanoTime() - startNanos);
+        metrics.recordFootprint((long) logic.getRows() * logic.getCols(), logic.getEstimatedBytes());
+    }
+
+    /* ---------- SIMULATION THREAD ---------- */
+    /**
+     * Executes commands as they arrive and, while running, computes a generation
+     * every tick interval.
+     */
+    private void run() {
+        long nextTick = System.nanoTime();
+        try {
+            while (true) {
+                Runnable command;
+                if (running) {
+                    long wait = nextTick - System.nanoTime();
+                    command = wait > 0 ? commands.poll(wait, TimeUnit.NANOSECONDS) : commands.poll();
+                } else {
+                    command = commands.take();
+                    nextTick = System.nanoTime();
+                }
+
+                try {
+                    if (command != null) {
+                        command.run();
+                        continue;
+                    }
+
+                    logic.calculateNextGeneration();
+                    population.record(logic);
+                    publish();
+                } catch (RuntimeException | OutOfMemoryError e) {
+                    fail(e);
+                    continue;
+                }
+                nextTick = Math.max(nextTick + tickIntervalNanos, System.nanoTime());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops running after a command or generation threw, drops whatever the engine
+     * cached about the board, and reports the failure.
+     */
+    private void fail(Throwable error) {
+        running = false;
+        logic.markModified();
+        ErrorListener listener = errorListener;
+        if (listener != null) {
+            listener.failed(error);
+        }
+    }
+
+    private static long toNanos(double millis) {
+        return (long) (millis * 1_000_000);
+    }
+}
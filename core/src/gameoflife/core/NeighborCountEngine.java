@@ -0,0 +1,206 @@
+package gameoflife.core;
+
+import java.util.Arrays;
+
+/**
+ * Generation engine that keeps the living-neighbor count of every cell across
+ * generations instead of recounting 8 neighbors per cell. When a cell is born or dies,
+ * the counts of its 8 neighbors are adjusted, and only the cells whose count or own
+ * state changed are evaluated in the next generation, so the cost of a generation is
+ * proportional to the number of births and deaths. Rules are read from the
+ * board's {@code RuleRegistry}.
+ *
+ * <pre>
+ * Implementation:  The alive planes are double-buffered, so a cell that is not
+ * evaluated must hold the same state in both planes. That holds for
+ * every cell that did not flip during the previous generation, and
+ * every cell that flipped is evaluated again. Edits recount the
+ * neighbors of the edited cell and schedule its neighborhood.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class NeighborCountEngine implements GenerationEngine {
+    private static final int TYPE_COUNT = CellType.values().length;
+
+    private final int[] survivalMasks = new int[TYPE_COUNT];
+    private final int[] birthMasks = new int[TYPE_COUNT];
+
+    private int rows = -1;
+    private int cols = -1;
+    private boolean initialized = false;
+
+    // Living neighbors of every cell in the current generation
+    private byte[] counts;
+
+    // Cells to evaluate in the coming generation, or every cell when allDirty is set
+    private int[] dirty = new int[64];
+    private int dirtyCount;
+    private boolean allDirty;
+    // One bit per cell, set while the cell is in the dirty list
+    private long[] queued;
+
+    // Cells that flipped during the current generation
+    private int[] flipped = new int[64];
+    private int flippedCount;
+
+    private int living;
+    // Set when an edit may have changed the population
+    private boolean livingStale;
+
+    @Override
+    public StepCounts step(LifeLogic board) {
+        if (!initialized || board.getRows() != rows || board.getCols() != cols) {
+            initialize(board);
+        }
+        byte[] cellTypes = board.cellTypePlane();
+        byte[] alive = board.alivePlane();
+        byte[] nextAlive = board.nextAlivePlane();
+        if (livingStale) {
+            living = countLiving(alive);
+            livingStale = false;
+        }
+
+        flippedCount = 0;
+        if (allDirty) {
+            for (int index = 0; index < alive.length; index++) {
+                evaluate(index, cellTypes, alive, nextAlive);
+            }
+            allDirty = false;
+        } else {
+            for (int i = 0; i < dirtyCount; i++) {
+                int index = dirty[i];
+                queued[index >>> 6] &= ~(1L << index);
+                evaluate(index, cellTypes, alive, nextAlive);
+            }
+        }
+        dirtyCount = 0;
+
+        // Move the counts to the new generation and schedule whatever they touched
+        ChangedCells changes = board.getChangedCells();
+        int births = 0;
+        for (int i = 0; i < flippedCount; i++) {
+            int index = flipped[i];
+            int row = index / cols;
+            int col = index - row * cols;
+            int delta = nextAlive[index] != 0 ? 1 : -1;
+            births += (delta + 1) >> 1;
+            changes.mark(row, col);
+
+            for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, rows - 1); r++) {
+                for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, cols - 1); c++) {
+                    int neighbor = r * cols + c;
+                    if (neighbor != index) {
+                        counts[neighbor] += (byte) delta;
+                    }
+                    schedule(neighbor);
+                }
+            }
+        }
+        int deaths = flippedCount - births;
+        living += births - deaths;
+        return new StepCounts(living, births, deaths);
+    }
+
+    /**
+     * Computes the next state of one cell into the spare plane from its stored count.
+     */
+    private void evaluate(int index, byte[] cellTypes, byte[] alive, byte[] nextAlive) {
+        byte wasAlive = alive[index];
+        int ruleMask = wasAlive != 0 ? survivalMasks[cellTypes[index]] : birthMasks[cellTypes[index]];
+        byte isNowAlive = (byte) ((ruleMask >>> counts[index]) & 1);
+        nextAlive[index] = isNowAlive;
+        if (isNowAlive != wasAlive) {
+            if (flippedCount == flipped.length) {
+                flipped = Arrays.copyOf(flipped, flipped.length * 2);
+            }
+            flipped[flippedCount++] = index;
+        }
+    }
+
+    /**
+     * Adds a cell to the dirty list unless it is already in it.
+     */
+    private void schedule(int index) {
+        long bit = 1L << index;
+        if ((queued[index >>> 6] & bit) != 0) return;
+        queued[index >>> 6] |= bit;
+        if (dirtyCount == dirty.length) {
+            dirty = Arrays.copyOf(dirty, dirty.length * 2);
+        }
+        dirty[dirtyCount++] = index;
+    }
+
+    /**
+     * Counts the neighbors of every cell and schedules every cell.
+     */
+    private void initialize(LifeLogic board) {
+        rows = board.getRows();
+        cols = board.getCols();
+        byte[] alive = board.alivePlane();
+
+        counts = new byte[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                counts[r * cols + c] = (byte) countLivingNeighbors(alive, r, c);
+            }
+        }
+        queued = new long[(rows * cols + 63) >>> 6];
+        dirtyCount = 0;
+        allDirty = true;
+        living = countLiving(alive);
+        livingStale = false;
+
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            survivalMasks[type] = board.ruleMask(type, true);
+            birthMasks[type] = board.ruleMask(type, false);
+        }
+        initialized = true;
+    }
+
+    private int countLivingNeighbors(byte[] alive, int row, int col) {
+        int count = -alive[row * cols + col];
+        for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, rows - 1); r++) {
+            for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, cols - 1); c++) {
+                count += alive[r * cols + c];
+            }
+        }
+        return count;
+    }
+
+    private static int countLiving(byte[] alive) {
+        int count = 0;
+        for (byte state : alive) {
+            count += state;
+        }
+        return count;
+    }
+
+    @Override
+    public void cellEdited(LifeLogic board, int row, int col) {
+        if (!initialized || row >= rows || col >= cols) return;
+
+        byte[] alive = board.alivePlane();
+        for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, rows - 1); r++) {
+            for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, cols - 1); c++) {
+                counts[r * cols + c] = (byte) countLivingNeighbors(alive, r, c);
+                if (!allDirty) {
+                    schedule(r * cols + c);
+                }
+            }
+        }
+        livingStale = true;
+    }
+
+    @Override
+    public void reset() {
+        initialized = false;
+    }
+
+    @Override
+    public String getName() {
+        return "Neighbor Counts";
+    }
+}
@@ -0,0 +1,63 @@
+package gameoflife.core;
+
+/**
+ * The cells whose living neighbors a {@code LifeRule} counts: every cell within a radius
+ * of the cell, measured as a square (Moore) or a diamond (von Neumann), optionally
+ * counting the cell itself. The classic rules use the 3x3 Moore neighborhood.
+ *
+ * @param shape          the shape of the neighborhood
+ * @param radius         the distance to the farthest counted cell, from 1 to {@link #MAX_RADIUS}
+ * @param includesCenter whether the cell itself is counted
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public record Neighborhood(Shape shape, int radius, boolean includesCenter) {
+    /** The largest supported radius. */
+    public static final int MAX_RADIUS = 500;
+
+    /** The 8 cells around a cell, as used by the classic rules. */
+    public static final Neighborhood MOORE = new Neighborhood(Shape.MOORE, 1, false);
+
+    /**
+     * The shape of a neighborhood.
+     */
+    public enum Shape {
+        /** Every cell within {@code radius} rows and columns: a square. */
+        MOORE,
+        /** Every cell within {@code radius} steps along rows and columns: a diamond. */
+        VON_NEUMANN
+    }
+
+    /**
+     * Validates the shape and radius.
+     */
+    public Neighborhood {
+        if (shape == null) {
+            throw new IllegalArgumentException("The neighborhood shape must not be null");
+        }
+        if (radius < 1 || radius > MAX_RADIUS) {
+            throw new IllegalArgumentException("The neighborhood radius must be between 1 and " + MAX_RADIUS + ": " + radius);
+        }
+    }
+
+    /**
+     * Returns the number of cells counted, which is the highest possible neighbor count.
+     * @return the number of cells in the neighborhood
+     */
+    public int size() {
+        int cells = shape == Shape.MOORE
+                ? (2 * radius + 1) * (2 * radius + 1)
+                : 2 * radius * (radius + 1) + 1;
+        return includesCenter ? cells : cells - 1;
+    }
+
+    /**
+     * Checks whether this is the 3x3 Moore neighborhood of the classic rules.
+     * @return true if the neighborhood is {@link #MOORE}
+     */
+    public boolean isClassic() {
+        return equals(MOORE);
+    }
+}
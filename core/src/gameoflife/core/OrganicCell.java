@@ -1,4 +1,4 @@
-package gameoflife;
+package gameoflife.core;
 
 /**
  * Represents a category of cells that possess biological traits,
@@ -0,0 +1,116 @@
+package gameoflife.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Multi-core generation engine. Splits the board into horizontal bands of rows and
+ * computes them concurrently on a {@code ForkJoinPool} with a {@code BandedEngine},
+ * then reduces the per-band counts. Boards too small for parallelism to pay off are
+ * stepped serially by the same delegate.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class ParallelEngine implements GenerationEngine {
+    /** Default minimum number of rows in a band. */
+    public static final int DEFAULT_MIN_BAND_ROWS = 16;
+    /** Minimum number of cells in a band; smaller bands cost more to schedule than to compute. */
+    private static final int MIN_BAND_CELLS = 1 << 16;
+
+    private final BandedEngine delegate;
+    private final String name;
+    private final ForkJoinPool pool;
+    private final int minBandRows;
+
+    /**
+     * Constructs a parallel engine that runs on the common {@code ForkJoinPool}
+     * with the default minimum band height.
+     * @param delegate the engine that computes each band
+     */
+    public ParallelEngine(BandedEngine delegate) {
+        this(delegate, ForkJoinPool.commonPool(), DEFAULT_MIN_BAND_ROWS);
+    }
+
+    /**
+     * Constructs a parallel engine with its own pool of worker threads.
+     * @param delegate    the engine that computes each band
+     * @param threads     the number of worker threads (must be > 0)
+     * @param minBandRows the minimum number of rows in a band (must be > 0)
+     */
+    public ParallelEngine(BandedEngine delegate, int threads, int minBandRows) {
+        this(delegate, new ForkJoinPool(threads), minBandRows);
+    }
+
+    /**
+     * Constructs a parallel engine that runs on the given pool.
+     * @param delegate    the engine that computes each band
+     * @param pool        the pool the bands are submitted to
+     * @param minBandRows the minimum number of rows in a band (must be > 0)
+     */
+    public ParallelEngine(BandedEngine delegate, ForkJoinPool pool, int minBandRows) {
+        if (minBandRows < 1) {
+            throw new IllegalArgumentException("minBandRows must be positive: " + minBandRows);
+        }
+        this.delegate = delegate;
+        this.name = "Parallel " + delegate.getName();
+        this.pool = pool;
+        this.minBandRows = minBandRows;
+    }
+
+    @Override
+    public StepCounts step(LifeLogic board) {
+        int rows = board.getRows();
+        long cells = (long) rows * board.getCols();
+        int bandCount = (int) Math.min(pool.getParallelism(),
+                Math.min(rows / minBandRows, cells / MIN_BAND_CELLS));
+        if (bandCount < 2) {
+            return delegate.step(board);
+        }
+
+        delegate.prepare(board);
+
+        List<ForkJoinTask<StepCounts>> bands = new ArrayList<>(bandCount);
+        for (int band = 0; band < bandCount; band++) {
+            int fromRow = (int) ((long) rows * band / bandCount);
+            int toRow = (int) ((long) rows * (band + 1) / bandCount);
+            bands.add(pool.submit(() -> delegate.stepRows(board, fromRow, toRow)));
+        }
+
+        StepCounts counts = new StepCounts(0, 0, 0);
+        for (ForkJoinTask<StepCounts> band : bands) {
+            counts = counts.plus(band.join());
+        }
+
+        delegate.finish(board);
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        delegate.reset();
+    }
+
+    @Override
+    public void cellEdited(LifeLogic board, int row, int col) {
+        delegate.cellEdited(board, row, col);
+    }
+
+    @Override
+    public boolean supportsExtendedNeighborhoods() {
+        return delegate.supportsExtendedNeighborhoods();
+    }
+
+    @Override
+    public boolean supportsBoundary(BoundaryMode mode) {
+        return delegate.supportsBoundary(mode);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
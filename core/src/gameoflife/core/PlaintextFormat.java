@@ -0,0 +1,139 @@
+package gameoflife.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes boards in a plain text format, one character per cell and one line
+ * per row. It extends the common Life "plaintext" format with the extra cell types:
+ *
+ * <pre>
+ * .  dead animal       O  living animal (* is also accepted)
+ * p  dead plant        P  living plant
+ * #  wall
+ * </pre>
+ *
+ * Lines starting with {@code !} are comments. Rows shorter than the longest row are
+ * padded with dead animals.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public final class PlaintextFormat {
+    private static final char DEAD_ANIMAL = '.';
+    private static final char LIVE_ANIMAL = 'O';
+    private static final char DEAD_PLANT = 'p';
+    private static final char LIVE_PLANT = 'P';
+    private static final char WALL = '#';
+    private static final char COMMENT = '!';
+
+    private PlaintextFormat() {
+    }
+
+    /**
+     * Reads a board from a file.
+     * @param path the file to read
+     * @return a new board holding the cells of the file
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file holds no rows or an unknown cell symbol
+     */
+    public static LifeLogic read(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    /**
+     * Reads a board from a character stream.
+     * @param reader the stream to read
+     * @return a new board holding the cells of the stream
+     * @throws IOException if the stream cannot be read
+     * @throws IllegalArgumentException if the stream holds no rows or an unknown cell symbol
+     */
+    public static LifeLogic read(BufferedReader reader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        int cols = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isEmpty() && line.charAt(0) == COMMENT) continue;
+            line = line.stripTrailing();
+            lines.add(line);
+            cols = Math.max(cols, line.length());
+        }
+        while (!lines.isEmpty() && lines.getLast().isEmpty()) {
+            lines.removeLast();
+        }
+        if (lines.isEmpty() || cols == 0) {
+            throw new IllegalArgumentException("The board holds no cells");
+        }
+
+        // setCell only copies the type and state, so one cell per symbol is enough
+        AbstractCell liveAnimal = new AnimalCell(true);
+        AbstractCell deadPlant = new PlantCell(false);
+        AbstractCell livePlant = new PlantCell(true);
+        AbstractCell wall = new WallCell();
+
+        LifeLogic logic = new LifeLogic(lines.size(), cols);
+        for (int r = 0; r < lines.size(); r++) {
+            String row = lines.get(r);
+            for (int c = 0; c < row.length(); c++) {
+                char symbol = row.charAt(c);
+                switch (symbol) {
+                    case DEAD_ANIMAL -> { }
+                    case LIVE_ANIMAL, '*' -> logic.setCell(r, c, liveAnimal);
+                    case DEAD_PLANT -> logic.setCell(r, c, deadPlant);
+                    case LIVE_PLANT -> logic.setCell(r, c, livePlant);
+                    case WALL -> logic.setCell(r, c, wall);
+                    default -> throw new IllegalArgumentException(
+                            "Unknown cell symbol '" + symbol + "' at row " + (r + 1) + ", column " + (c + 1));
+                }
+            }
+        }
+        return logic;
+    }
+
+    /**
+     * Writes a board to a file, replacing it if it exists.
+     * @param logic the board to write
+     * @param path  the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(LifeLogic logic, Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            write(logic, writer);
+        }
+    }
+
+    /**
+     * Writes a board to a character stream.
+     * @param logic  the board to write
+     * @param writer the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(LifeLogic logic, Writer writer) throws IOException {
+        StringBuilder row = new StringBuilder(logic.getCols() + 1);
+        for (int r = 0; r < logic.getRows(); r++) {
+            row.setLength(0);
+            for (int c = 0; c < logic.getCols(); c++) {
+                row.append(symbolOf(logic.getCellType(r, c), logic.isAlive(r, c)));
+            }
+            row.append('\n');
+            writer.write(row.toString());
+        }
+    }
+
+    private static char symbolOf(CellType type, boolean isAlive) {
+        return switch (type) {
+            case ANIMAL -> isAlive ? LIVE_ANIMAL : DEAD_ANIMAL;
+            case PLANT -> isAlive ? LIVE_PLANT : DEAD_PLANT;
+            case WALL -> WALL;
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package gameoflife.core;
+
+import java.util.List;
+
+/**
+ * The population dynamics of a run as a {@code TimeSeries} over generations: the living
+ * {@code AnimalCell}s and {@code PlantCell}s, and the births and deaths of every
+ * generation. Recording a generation only reads counters the board keeps up to date,
+ * so it costs the same on any board size.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class PopulationSeries extends TimeSeries {
+    /** The default number of buckets. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** Channel of the living animals. */
+    public static final int ANIMALS = 0;
+    /** Channel of the living plants. */
+    public static final int PLANTS = 1;
+    /** Channel of the births of the generation. */
+    public static final int BIRTHS = 2;
+    /** Channel of the deaths of the generation. */
+    public static final int DEATHS = 3;
+
+    private static final List<String> CHANNELS = List.of("living_animals", "living_plants", "births", "deaths");
+
+    // Reused for every sample
+    private final double[] sample = new double[CHANNELS.size()];
+
+    /**
+     * Constructs an empty series of {@link #DEFAULT_CAPACITY} buckets.
+     */
+    public PopulationSeries() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty series.
+     * @param capacity the maximum number of buckets, an even number of at least 2
+     */
+    public PopulationSeries(int capacity) {
+        super(CHANNELS, capacity);
+    }
+
+    /**
+     * Adds the board's current generation. Call it after every generation step; a
+     * board that was reset or rewound starts the series over.
+     * @param logic the board
+     */
+    public synchronized void record(LifeLogic logic) {
+        sample[ANIMALS] = logic.getLivingCount(CellType.ANIMAL);
+        sample[PLANTS] = logic.getLivingCount(CellType.PLANT);
+        sample[BIRTHS] = logic.getLastBirths();
+        sample[DEATHS] = logic.getLastDeaths();
+        add(logic.getGenerationCount(), sample);
+    }
+}
@@ -0,0 +1,419 @@
+package gameoflife.core;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Reads and writes boards in the run-length encoded (RLE) format used by Golly and most
+ * Life pattern collections. Files are parsed as a byte stream in fixed-size chunks, and
+ * every run is stored into the board planes with a single bulk fill, so patterns with
+ * tens of millions of cells load without building the whole file as a string.
+ *
+ * <p>Two-state files use {@code b} for dead and {@code o} for living animals. Boards
+ * holding plants or walls are written with Golly's multi-state symbols and the rule
+ * name {@code LifeTypes}:
+ *
+ * <pre>
+ * .  dead animal       A  living animal
+ * B  dead plant        C  living plant
+ * D  wall
+ * </pre>
+ *
+ * Both symbol sets are accepted when reading, whatever the rule line says; the cells
+ * always follow the rules of their own type. Walls have a single symbol and are always
+ * written dead, since a wall never survives a generation.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public final class RleFormat {
+    /**
+     * Receives progress reports while a pattern is read or written.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called periodically with the amount of work done so far.
+         * @param done  the bytes read, or the rows written
+         * @param total the file size, or the row count (-1 if unknown)
+         */
+        void progress(long done, long total);
+    }
+
+    /** The rule name written for boards that hold plants or walls. */
+    public static final String EXTENDED_RULE = "LifeTypes";
+
+    private static final String STANDARD_RULE = "B3/S23";
+    private static final int BUFFER_BYTES = 1 << 16;
+    private static final int LINE_LENGTH = 70;
+    private static final int PROGRESS_ROWS = 256;
+
+    // Multi-state symbol index -> cell type ordinal and living state
+    private static final char[] STATE_SYMBOLS = { '.', 'A', 'B', 'C', 'D' };
+    private static final byte[] STATE_TYPES = { 0, 0, 1, 1, 2 };
+    private static final boolean[] STATE_ALIVE = { false, true, false, true, false };
+
+    private RleFormat() {
+    }
+
+    /* ---------- READING ---------- */
+    /**
+     * Reads a pattern from a file.
+     * @param path the file to read
+     * @return a new board sized to the pattern's header
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid pattern
+     */
+    public static LifeLogic read(Path path) throws IOException {
+        return read(path, null);
+    }
+
+    /**
+     * Reads a pattern from a file, reporting the bytes read so far.
+     * @param path     the file to read
+     * @param listener the progress listener, or null
+     * @return a new board sized to the pattern's header
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid pattern
+     */
+    public static LifeLogic read(Path path, ProgressListener listener) throws IOException {
+        return read(path, Integer.MAX_VALUE, listener);
+    }
+
+    /**
+     * Reads a pattern from a file, reporting the bytes read so far, and refuses patterns
+     * whose header declares a larger board than the caller can hold before allocating it.
+     * @param path     the file to read
+     * @param maxSize  the most rows or columns the board may have
+     * @param listener the progress listener, or null
+     * @return a new board sized to the pattern's header
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid pattern, or is too large
+     */
+    public static LifeLogic read(Path path, int maxSize, ProgressListener listener) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in, Files.size(path), maxSize, listener);
+        }
+    }
+
+    /**
+     * Reads a pattern from a byte stream, reporting the bytes read so far.
+     * @param in         the stream to read, which is not closed
+     * @param totalBytes the length of the stream, or -1 if unknown
+     * @param listener   the progress listener, or null
+     * @return a new board sized to the pattern's header
+     * @throws IOException if the stream cannot be read
+     * @throws IllegalArgumentException if the stream is not a valid pattern
+     */
+    public static LifeLogic read(InputStream in, long totalBytes, ProgressListener listener) throws IOException {
+        return read(in, totalBytes, Integer.MAX_VALUE, listener);
+    }
+
+    /**
+     * Reads a pattern from a byte stream, reporting the bytes read so far, and refuses
+     * patterns whose header declares a larger board than the caller can hold.
+     * @param in         the stream to read, which is not closed
+     * @param totalBytes the length of the stream, or -1 if unknown
+     * @param maxSize    the most rows or columns the board may have
+     * @param listener   the progress listener, or null
+     * @return a new board sized to the pattern's header
+     * @throws IOException if the stream cannot be read
+     * @throws IllegalArgumentException if the stream is not a valid pattern, or is too large
+     */
+    public static LifeLogic read(InputStream in, long totalBytes, int maxSize, ProgressListener listener)
+            throws IOException {
+        Parser parser = new Parser(in, totalBytes, maxSize, listener);
+        LifeLogic logic = parser.readHeader();
+        parser.readBody(logic);
+        logic.markModified();
+        logic.restoreStatistics(0, parser.living, 0);
+        if (listener != null) listener.progress(parser.consumed, totalBytes);
+        return logic;
+    }
+
+    /**
+     * Byte-level parser that refills a fixed buffer from the stream as it goes.
+     */
+    private static final class Parser {
+        private final InputStream in;
+        private final long totalBytes;
+        private final int maxSize;
+        private final ProgressListener listener;
+        private final byte[] buffer = new byte[BUFFER_BYTES];
+        private int position;
+        private int limit;
+        private long consumed;
+        private int line = 1;
+        private int living;
+
+        Parser(InputStream in, long totalBytes, int maxSize, ProgressListener listener) {
+            this.in = in;
+            this.totalBytes = totalBytes;
+            this.maxSize = maxSize;
+            this.listener = listener;
+        }
+
+        /**
+         * Returns the next byte of the stream, or -1 at its end.
+         */
+        private int next() throws IOException {
+            if (position == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+                consumed += limit;
+                if (listener != null) listener.progress(consumed, totalBytes);
+            }
+            int b = buffer[position++] & 0xFF;
+            if (b == '\n') line++;
+            return b;
+        }
+
+        private void skipLine() throws IOException {
+            int b;
+            do {
+                b = next();
+            } while (b != '\n' && b != -1);
+        }
+
+        /**
+         * Skips the comment lines and parses the {@code x = ..., y = ...} line.
+         * @return an empty board of the declared size
+         */
+        LifeLogic readHeader() throws IOException {
+            StringBuilder header = new StringBuilder();
+            int b = next();
+            while (b != -1) {
+                if (b == '#') {
+                    skipLine();
+                } else if (b == 'x') {
+                    for (; b != '\n' && b != -1; b = next()) {
+                        header.append((char) b);
+                    }
+                    break;
+                } else if (b > ' ') {
+                    throw new IllegalArgumentException("Expected the x = ..., y = ... header on line " + line);
+                }
+                b = next();
+            }
+            if (header.isEmpty()) {
+                throw new IllegalArgumentException("The pattern has no x = ..., y = ... header");
+            }
+
+            int cols = -1;
+            int rows = -1;
+            for (String field : header.toString().split(",")) {
+                int equals = field.indexOf('=');
+                if (equals < 0) continue;
+                String key = field.substring(0, equals).strip();
+                String value = field.substring(equals + 1).strip();
+                try {
+                    switch (key) {
+                        case "x" -> cols = Integer.parseInt(value);
+                        case "y" -> rows = Integer.parseInt(value);
+                        default -> { }
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid pattern size " + key + " = " + value);
+                }
+            }
+            if (cols <= 0 || rows <= 0) {
+                throw new IllegalArgumentException("The pattern header must declare a positive x and y");
+            }
+            if ((long) rows * cols > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("The pattern is too large: " + cols + " x " + rows);
+            }
+            if (rows > maxSize || cols > maxSize) {
+                throw new IllegalArgumentException("The pattern is " + cols + " x " + rows
+                        + ", larger than the limit of " + maxSize + " x " + maxSize);
+            }
+            return new LifeLogic(rows, cols);
+        }
+
+        /**
+         * Parses the runs up to {@code !} or the end of the stream into the board.
+         */
+        void readBody(LifeLogic logic) throws IOException {
+            byte[] cellTypes = logic.cellTypePlane();
+            byte[] alive = logic.alivePlane();
+            int rows = logic.getRows();
+            int cols = logic.getCols();
+
+            int row = 0;
+            int col = 0;
+            int count = 0;
+            for (int b = next(); b != -1 && b != '!'; b = next()) {
+                if (b >= '0' && b <= '9') {
+                    int digit = b - '0';
+                    if (count > (Integer.MAX_VALUE - digit) / 10) {
+                        throw new IllegalArgumentException("Run length too large on line " + line);
+                    }
+                    count = count * 10 + digit;
+                    continue;
+                }
+                if (b == ' ' || b == '\t' || b == '\r' || b == '\n') continue;
+                if (b == '#') {
+                    skipLine();
+                    continue;
+                }
+
+                int run = count == 0 ? 1 : count;
+                count = 0;
+                int state = switch (b) {
+                    case 'b', '.' -> 0;
+                    case 'o' -> 1;
+                    case 'A', 'B', 'C', 'D' -> b - 'A' + 1;
+                    case '$' -> -1;
+                    default -> throw new IllegalArgumentException(
+                            "Unsupported cell symbol '" + (char) b + "' on line " + line);
+                };
+                if (state < 0) {
+                    if (run > rows - row) {
+                        throw new IllegalArgumentException("The pattern exceeds its declared size of "
+                                + cols + " x " + rows + " on line " + line);
+                    }
+                    row += run;
+                    col = 0;
+                    continue;
+                }
+                if (row >= rows || run > cols - col) {
+                    throw new IllegalArgumentException("The pattern exceeds its declared size of "
+                            + cols + " x " + rows + " on line " + line);
+                }
+                if (state != 0) {
+                    int from = row * cols + col;
+                    if (STATE_TYPES[state] != 0) {
+                        Arrays.fill(cellTypes, from, from + run, STATE_TYPES[state]);
+                    }
+                    if (STATE_ALIVE[state]) {
+                        Arrays.fill(alive, from, from + run, (byte) 1);
+                        living += run;
+                    }
+                }
+                col += run;
+            }
+        }
+    }
+
+    /* ---------- WRITING ---------- */
+    /**
+     * Writes a board to a file, replacing it if it exists.
+     * @param logic the board to write
+     * @param path  the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(LifeLogic logic, Path path) throws IOException {
+        write(logic, path, null);
+    }
+
+    /**
+     * Writes a board to a file, replacing it if it exists and reporting the rows written so far.
+     * @param logic    the board to write
+     * @param path     the file to write
+     * @param listener the progress listener, or null
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(LifeLogic logic, Path path, ProgressListener listener) throws IOException {
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.US_ASCII), BUFFER_BYTES)) {
+            write(logic, writer, listener);
+        }
+    }
+
+    /**
+     * Writes a board to a character stream, reporting the rows written so far. Lines are
+     * wrapped at 70 characters and trailing dead cells and empty rows are left out.
+     *
+     * @param logic    the board to write
+     * @param writer   the stream to write to, which is not closed
+     * @param listener the progress listener, or null
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(LifeLogic logic, Writer writer, ProgressListener listener) throws IOException {
+        byte[] cellTypes = logic.cellTypePlane();
+        byte[] alive = logic.alivePlane();
+        int rows = logic.getRows();
+        int cols = logic.getCols();
+        int cells = rows * cols;
+
+        boolean extended = false;
+        for (int i = 0; i < cells && !extended; i++) {
+            extended = cellTypes[i] != 0;
+        }
+        writer.write(String.format(Locale.ROOT, "x = %d, y = %d, rule = %s%n",
+                cols, rows, extended ? EXTENDED_RULE : STANDARD_RULE));
+
+        RunWriter out = new RunWriter(writer);
+        int lastRow = 0;
+        for (int r = 0; r < rows; r++) {
+            int offset = r * cols;
+            int c = 0;
+            while (c < cols) {
+                int state = stateOf(cellTypes[offset + c], alive[offset + c]);
+                int end = c + 1;
+                while (end < cols && stateOf(cellTypes[offset + end], alive[offset + end]) == state) {
+                    end++;
+                }
+                // Trailing dead cells are implied by the end of the row
+                if (state != 0 || end < cols) {
+                    if (r > lastRow) {
+                        out.run(r - lastRow, '$');
+                        lastRow = r;
+                    }
+                    out.run(end - c, extended ? STATE_SYMBOLS[state] : state == 0 ? 'b' : 'o');
+                }
+                c = end;
+            }
+            if (listener != null && (r + 1) % PROGRESS_ROWS == 0) listener.progress(r + 1, rows);
+        }
+        out.run(1, '!');
+        writer.write('\n');
+        if (listener != null) listener.progress(rows, rows);
+    }
+
+    // A wall toggled alive is written as D, dropping its alive bit
+    private static int stateOf(byte cellType, byte alive) {
+        return switch (cellType) {
+            case 0 -> alive != 0 ? 1 : 0;
+            case 1 -> alive != 0 ? 3 : 2;
+            default -> 4;
+        };
+    }
+
+    /**
+     * Emits {@code <count><symbol>} runs, wrapping lines without splitting a run.
+     */
+    private static final class RunWriter {
+        private final Writer writer;
+        private final StringBuilder token = new StringBuilder(12);
+        private int lineLength;
+
+        RunWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        void run(int count, char symbol) throws IOException {
+            token.setLength(0);
+            if (count > 1) token.append(count);
+            token.append(symbol);
+            if (lineLength + token.length() > LINE_LENGTH) {
+                writer.write('\n');
+                lineLength = 0;
+            }
+            writer.append(token);
+            lineLength += token.length();
+        }
+    }
+}
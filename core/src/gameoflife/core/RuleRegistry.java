@@ -0,0 +1,196 @@
+package gameoflife.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Maps every {@code CellType} to the {@code LifeRule} its cells follow. A new registry
+ * holds the built-in rules of the cell classes, and any of them can be replaced at
+ * runtime, in code or from a properties file keyed by cell type:
+ *
+ * <pre>
+ * animal = B3/S23
+ * plant  = B23/S1234
+ * wall   = B/S
+ * </pre>
+ *
+ * Rules may also use a larger neighborhood in Larger than Life notation, e.g.
+ * {@code animal = R5,C0,M1,S34..58,B34..45,NM}; boards whose rules do are stepped by
+ * the {@code LargerThanLifeEngine}.
+ *
+ * Types missing from the file keep their built-in rule. Walls must keep {@code B/S},
+ * since every component treats them as cells that never come alive. A board compiles
+ * its registry into a flat lookup table (see {@code LifeLogic.setRules}), so the engines
+ * look every cell's next state up with a single array access whatever the rules are.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public final class RuleRegistry {
+    private static final CellType[] CELL_TYPES = CellType.values();
+
+    // Table index of a cell: its type ordinal, then its state, then its neighbor count
+    static final int TYPE_SHIFT = 5;
+    static final int ALIVE_SHIFT = 4;
+    static final int TABLE_SIZE = CELL_TYPES.length << TYPE_SHIFT;
+
+    private final EnumMap<CellType, LifeRule> rules = new EnumMap<>(CellType.class);
+
+    /**
+     * Constructs a registry holding the built-in rules.
+     */
+    public RuleRegistry() {
+        for (CellType type : CELL_TYPES) {
+            rules.put(type, defaultRule(type));
+        }
+    }
+
+    /**
+     * Constructs a copy of another registry.
+     * @param other the registry to copy
+     */
+    public RuleRegistry(RuleRegistry other) {
+        rules.putAll(other.rules);
+    }
+
+    /**
+     * Returns the built-in rule of a cell type, the one its {@code AbstractCell}
+     * subclass implements.
+     * @param type the cell type
+     * @return the built-in rule
+     */
+    public static LifeRule defaultRule(CellType type) {
+        return switch (type) {
+            case ANIMAL -> LifeRule.parse("B3/S23");
+            case PLANT -> LifeRule.parse("B23/S1234");
+            case WALL -> LifeRule.parse("B/S");
+        };
+    }
+
+    /* ---------- LOADING ---------- */
+    /**
+     * Reads a registry from a properties file.
+     * @param path the file to read
+     * @return a registry with the file's rules and the built-in rule for every other type
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file names an unknown type or an invalid rule
+     */
+    public static RuleRegistry load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return load(reader);
+        }
+    }
+
+    /**
+     * Reads a registry from a properties stream.
+     * @param reader the stream to read, which is not closed
+     * @return a registry with the stream's rules and the built-in rule for every other type
+     * @throws IOException if the stream cannot be read
+     * @throws IllegalArgumentException if the stream names an unknown type or an invalid rule
+     */
+    public static RuleRegistry load(Reader reader) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+
+        RuleRegistry registry = new RuleRegistry();
+        for (String key : properties.stringPropertyNames()) {
+            CellType type;
+            try {
+                type = CellType.valueOf(key.strip().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown cell type \"" + key + "\"");
+            }
+            registry.setRule(type, LifeRule.parse(properties.getProperty(key)));
+        }
+        return registry;
+    }
+
+    /* ---------- RULES ---------- */
+    /**
+     * Returns the rule of a cell type.
+     * @param type the cell type
+     * @return the rule its cells follow
+     */
+    public LifeRule getRule(CellType type) {
+        return rules.get(type);
+    }
+
+    /**
+     * Replaces the rule of a cell type. Boards using this registry are not affected
+     * until it is set on them again.
+     * @param type the cell type
+     * @param rule the new rule
+     * @throws IllegalArgumentException if the rule is null, or would bring walls alive
+     */
+    public void setRule(CellType type, LifeRule rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException("The rule must not be null");
+        }
+        if (type == CellType.WALL && !rule.isLifeless()) {
+            throw new IllegalArgumentException("Walls never come alive, so their rule must be B/S, not " + rule);
+        }
+        // Every lifeless rule behaves the same, so walls always keep the classic one
+        rules.put(type, type == CellType.WALL ? defaultRule(type) : rule);
+    }
+
+    /**
+     * Checks whether any rule brings a cell alive with no living neighbors.
+     * @return true if empty space can come alive
+     */
+    public boolean birthOnZero() {
+        for (LifeRule rule : rules.values()) {
+            if (rule.nextState(false, 0)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any rule counts another neighborhood than the classic 3x3 one.
+     * @return true if the rules need the {@code LargerThanLifeEngine}
+     */
+    public boolean hasExtendedNeighborhoods() {
+        for (LifeRule rule : rules.values()) {
+            if (!rule.getNeighborhood().isClassic()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Compiles the rules into a lookup table holding the next state (0 or 1) of a cell
+     * at index {@code type << TYPE_SHIFT | alive << ALIVE_SHIFT | livingNeighbors},
+     * for the classic neighbor counts from 0 to 8.
+     * @return a new table of {@link #TABLE_SIZE} entries
+     */
+    byte[] compile() {
+        byte[] table = new byte[TABLE_SIZE];
+        for (CellType type : CELL_TYPES) {
+            LifeRule rule = rules.get(type);
+            for (int n = 0; n <= 8; n++) {
+                int index = type.ordinal() << TYPE_SHIFT | n;
+                table[index] = (byte) (rule.nextState(false, n) ? 1 : 0);
+                table[index | 1 << ALIVE_SHIFT] = (byte) (rule.nextState(true, n) ? 1 : 0);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Returns the registry in properties form.
+     * @return one {@code type = rule} line per cell type
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (CellType type : CELL_TYPES) {
+            text.append(type.name().toLowerCase(Locale.ROOT)).append(" = ").append(rules.get(type)).append('\n');
+        }
+        return text.toString();
+    }
+}
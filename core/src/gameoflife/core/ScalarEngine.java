@@ -0,0 +1,92 @@
+package gameoflife.core;
+
+/**
+ * Reference generation engine. Visits every cell, counts its 8 neighbors and looks
+ * the next state up in the board's rule table by cell type, state and count, so one
+ * loop serves every {@code CellType} and rule. Neighbors are read from a copy of the
+ * alive plane with a one-cell {@code Halo} filled by the board's {@code BoundaryMode},
+ * so the loop has no bounds checks whatever the boundary.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class ScalarEngine implements BandedEngine {
+    private final Halo halo = new Halo(1);
+
+    @Override
+    public void prepare(LifeLogic board) {
+        halo.refresh(board);
+    }
+
+    @Override
+    public StepCounts stepRows(LifeLogic board, int fromRow, int toRow) {
+        byte[] ruleTable = board.ruleTable();
+        byte[] cellTypes = board.cellTypePlane();
+        byte[] alive = board.alivePlane();
+        byte[] nextAlive = board.nextAlivePlane();
+        ChangedCells changes = board.getChangedCells();
+        byte[] padded = halo.plane();
+        int stride = halo.stride();
+        int cols = board.getCols();
+
+        int living = 0;
+        int births = 0;
+        int deaths = 0;
+
+        for (int r = fromRow; r < toRow; r++) {
+            int paddedRow = (r + 1) * stride + 1;
+            for (int c = 0; c < cols; c++) {
+                int index = r * cols + c;
+                boolean wasAlive = alive[index] != 0;
+
+                byte next = ruleTable[cellTypes[index] << RuleRegistry.TYPE_SHIFT
+                        | alive[index] << RuleRegistry.ALIVE_SHIFT
+                        | countLivingNeighbors(padded, stride, paddedRow + c)];
+                boolean isNowAlive = next != 0;
+
+                nextAlive[index] = next;
+                if (isNowAlive) {
+                    living++;
+                    if (!wasAlive) {
+                        births++;
+                        changes.mark(r, c);
+                    }
+                } else if (wasAlive) {
+                    deaths++;
+                    changes.mark(r, c);
+                }
+            }
+        }
+        return new StepCounts(living, births, deaths);
+    }
+
+    @Override
+    public void finish(LifeLogic board) {
+    }
+
+    /**
+     * Calculates the number of living cells in the 8 adjacent positions
+     * surrounding a specific cell of the padded plane.
+     *
+     * @param padded the alive plane with its halo
+     * @param stride the length of a padded row
+     * @param p      the index of the target cell in the padded plane
+     * @return the number of adjacent living cells
+     */
+    private static int countLivingNeighbors(byte[] padded, int stride, int p) {
+        return padded[p - stride - 1] + padded[p - stride] + padded[p - stride + 1]
+                + padded[p - 1] + padded[p + 1]
+                + padded[p + stride - 1] + padded[p + stride] + padded[p + stride + 1];
+    }
+
+    @Override
+    public boolean supportsBoundary(BoundaryMode mode) {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Scalar";
+    }
+}
@@ -0,0 +1,274 @@
+package gameoflife.core;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Low-overhead metrics of a running simulation: a {@code LatencyHistogram} per phase of
+ * a generation, the rate of generations, births and deaths per {@code CellType}, and
+ * the estimated memory per cell. A {@code LifeLogic} records its steps into the metrics
+ * set with {@code LifeLogic.setMetrics}, a {@code LifeSimulation} its snapshot
+ * handoffs, and the UI its painting. Every recording method only updates atomics
+ * in preallocated arrays, so the hot path never allocates.
+ *
+ * <pre>
+ * Phases:          STEP_COMPUTE is the engine pass, which counts neighbors and applies
+ * the rules in one go; STEP_COMMIT swaps the planes and updates the
+ * history, the cycle detector and these counts; PUBLISH copies the
+ * board into a snapshot for the UI; UI_SYNC paints it; and
+ * STATS_UPDATE refreshes the statistics shown with it.
+ * JMX:             {@link #register} exposes the metrics as a
+ * {@code SimulationMetricsMXBean} on the platform MBean server.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public final class SimulationMetrics implements SimulationMetricsMXBean {
+    private static final CellType[] CELL_TYPES = CellType.values();
+    private static final Phase[] PHASES = Phase.values();
+    // A generation further apart than this from the previous one starts a new run
+    private static final long IDLE_NANOS = 2_000_000_000L;
+    // Weight of the newest interval in the moving average of intervals
+    private static final double RATE_SMOOTHING = 0.1;
+
+    /**
+     * A timed part of computing and displaying a generation.
+     */
+    public enum Phase {
+        /** The engine computing the next generation. */
+        STEP_COMPUTE,
+        /** Swapping the planes and updating the history and cycle detection. */
+        STEP_COMMIT,
+        /** Copying the board into a snapshot for the UI. */
+        PUBLISH,
+        /** Painting a snapshot. */
+        UI_SYNC,
+        /** Refreshing the displayed statistics. */
+        STATS_UPDATE
+    }
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    private final AtomicLongArray births = new AtomicLongArray(CELL_TYPES.length);
+    private final AtomicLongArray deaths = new AtomicLongArray(CELL_TYPES.length);
+    private final AtomicLong generations = new AtomicLong();
+    private volatile long lastGenerationNanos;
+    private volatile double meanIntervalNanos;
+    private volatile double bytesPerCell;
+
+    /**
+     * Constructs empty metrics.
+     */
+    public SimulationMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /* ---------- RECORDING ---------- */
+    /**
+     * Records the duration of a phase.
+     * @param phase the phase
+     * @param nanos its duration in nanoseconds
+     */
+    public void record(Phase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Records a finished generation for the rate of generations.
+     * @param nowNanos the {@code System.nanoTime} at which it finished
+     */
+    public void recordGeneration(long nowNanos) {
+        generations.incrementAndGet();
+        long last = lastGenerationNanos;
+        long interval = nowNanos - last;
+        if (last != 0 && interval <= IDLE_NANOS) {
+            double mean = meanIntervalNanos;
+            meanIntervalNanos = mean == 0 ? interval : mean + (interval - mean) * RATE_SMOOTHING;
+        }
+        lastGenerationNanos = nowNanos;
+    }
+
+    /**
+     * Records the births and deaths of a cell type in a generation.
+     * @param type the cell type ordinal
+     * @param born the number of its cells that came alive
+     * @param died the number of its living cells that died
+     */
+    void recordChanges(int type, int born, int died) {
+        if (born != 0) births.addAndGet(type, born);
+        if (died != 0) deaths.addAndGet(type, died);
+    }
+
+    /**
+     * Records the memory footprint of the board.
+     * @param cells the number of cells on the board
+     * @param bytes the estimated bytes the board uses
+     */
+    public void recordFootprint(long cells, long bytes) {
+        bytesPerCell = cells == 0 ? 0 : (double) bytes / cells;
+    }
+
+    /* ---------- READING ---------- */
+    /**
+     * Returns the timings of a phase.
+     * @param phase the phase
+     * @return its histogram, which keeps recording
+     */
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Returns the births of a cell type.
+     * @param type the cell type
+     * @return the number of its cells that came alive
+     */
+    public long getBirths(CellType type) {
+        return births.get(type.ordinal());
+    }
+
+    /**
+     * Returns the deaths of a cell type.
+     * @param type the cell type
+     * @return the number of its living cells that died
+     */
+    public long getDeaths(CellType type) {
+        return deaths.get(type.ordinal());
+    }
+
+    @Override
+    public long getGenerations() {
+        return generations.get();
+    }
+
+    @Override
+    public double getGenerationsPerSecond() {
+        long last = lastGenerationNanos;
+        double mean = meanIntervalNanos;
+        if (last == 0 || mean == 0 || System.nanoTime() - last > Math.max(IDLE_NANOS, 2 * mean)) {
+            return 0;
+        }
+        return 1e9 / mean;
+    }
+
+    @Override
+    public Map<String, Long> getBirths() {
+        return countsByType(births);
+    }
+
+    @Override
+    public Map<String, Long> getDeaths() {
+        return countsByType(deaths);
+    }
+
+    @Override
+    public double getBytesPerCell() {
+        return bytesPerCell;
+    }
+
+    @Override
+    public Map<String, Long> getPhaseCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            counts.put(phase.name(), getHistogram(phase).getCount());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Double> getMeanMillis() {
+        return millisByPhase(LatencyHistogram::getMeanNanos);
+    }
+
+    @Override
+    public Map<String, Double> getP50Millis() {
+        return millisByPhase(histogram -> histogram.getPercentileNanos(0.5));
+    }
+
+    @Override
+    public Map<String, Double> getP99Millis() {
+        return millisByPhase(histogram -> histogram.getPercentileNanos(0.99));
+    }
+
+    @Override
+    public Map<String, Double> getMaxMillis() {
+        return millisByPhase(LatencyHistogram::getMaxNanos);
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        for (int i = 0; i < CELL_TYPES.length; i++) {
+            births.set(i, 0);
+            deaths.set(i, 0);
+        }
+        generations.set(0);
+        lastGenerationNanos = 0;
+        meanIntervalNanos = 0;
+    }
+
+    private static Map<String, Long> countsByType(AtomicLongArray counts) {
+        Map<String, Long> byType = new LinkedHashMap<>();
+        for (CellType type : CELL_TYPES) {
+            byType.put(type.name(), counts.get(type.ordinal()));
+        }
+        return byType;
+    }
+
+    private Map<String, Double> millisByPhase(ToDoubleFunction<LatencyHistogram> nanos) {
+        Map<String, Double> byPhase = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            byPhase.put(phase.name(), nanos.applyAsDouble(getHistogram(phase)) / 1e6);
+        }
+        return byPhase;
+    }
+
+    /* ---------- JMX ---------- */
+    /**
+     * Registers the metrics on the platform MBean server as
+     * {@code gameoflife:type=SimulationMetrics,name=<name>}.
+     * @param name the name that tells the simulation apart from others in the JVM
+     * @throws IllegalStateException if metrics of that name are already registered,
+     *                               or the registration fails
+     */
+    public void register(String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName(name));
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("Simulation metrics named " + name + " are already registered", e);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the simulation metrics: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Removes metrics registered with {@link #register}, if they are.
+     * @param name the name they were registered under
+     */
+    public void unregister(String name) {
+        try {
+            ObjectName objectName = objectName(name);
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(objectName)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister the simulation metrics: " + e.getMessage(), e);
+        }
+    }
+
+    private static ObjectName objectName(String name) throws JMException {
+        return new ObjectName("gameoflife:type=SimulationMetrics,name=" + ObjectName.quote(name));
+    }
+}
@@ -0,0 +1,80 @@
+package gameoflife.core;
+
+import java.util.Map;
+
+/**
+ * The JMX view of a {@code SimulationMetrics}, registered by
+ * {@code SimulationMetrics.register}. Phase timings are keyed by {@code Phase} name
+ * and cell counts by {@code CellType} name.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public interface SimulationMetricsMXBean {
+
+    /**
+     * Returns the number of generations computed since the metrics were created or reset.
+     * @return the generation count
+     */
+    long getGenerations();
+
+    /**
+     * Returns the recent rate of generations.
+     * @return generations per second, or 0 while the simulation is idle
+     */
+    double getGenerationsPerSecond();
+
+    /**
+     * Returns the births per cell type.
+     * @return the number of cells of each type that came alive
+     */
+    Map<String, Long> getBirths();
+
+    /**
+     * Returns the deaths per cell type.
+     * @return the number of living cells of each type that died
+     */
+    Map<String, Long> getDeaths();
+
+    /**
+     * Returns the estimated memory used per board cell.
+     * @return the bytes per cell, or 0 before a board was measured
+     */
+    double getBytesPerCell();
+
+    /**
+     * Returns the number of timings recorded per phase.
+     * @return the sample count of each phase
+     */
+    Map<String, Long> getPhaseCounts();
+
+    /**
+     * Returns the mean duration per phase.
+     * @return the mean of each phase in milliseconds
+     */
+    Map<String, Double> getMeanMillis();
+
+    /**
+     * Returns the median duration per phase.
+     * @return the 50th percentile of each phase in milliseconds
+     */
+    Map<String, Double> getP50Millis();
+
+    /**
+     * Returns the 99th percentile duration per phase.
+     * @return the 99th percentile of each phase in milliseconds
+     */
+    Map<String, Double> getP99Millis();
+
+    /**
+     * Returns the longest duration per phase.
+     * @return the maximum of each phase in milliseconds
+     */
+    Map<String, Double> getMaxMillis();
+
+    /**
+     * Forgets every timing and count.
+     */
+    void reset();
+}
@@ -0,0 +1,373 @@
+package gameoflife.core;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Versioned binary snapshot of a board. Files are read and written through
+ * {@code FileChannel}s with the body memory-mapped, so a board never has to be staged
+ * in memory as a whole. Mappings are tied to a confined {@code Arena} and released as
+ * soon as a read or write completes, which keeps the file free to be replaced on
+ * platforms that lock mapped files. Saving writes a temporary file next to
+ * the target and atomically moves it into place, so an interrupted save leaves the
+ * previous snapshot intact. For an unbounded board, only the visible window is saved.
+ *
+ * <pre>
+ * Layout:          Little-endian, a 48-byte header followed by the body.
+ * Header:          magic "GOLS" (int), version (short), flags (short),
+ * rows (int), cols (int), generation, living, deceased,
+ * body length in bytes (4 longs)
+ * Body:            The alive plane, 1 bit per cell, then the type plane, 2 bits
+ * per cell holding the {@code CellType} ordinal, both in row-major
+ * order from the low bits up; deflated when {@code FLAG_DEFLATE} is set.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public final class SnapshotFormat {
+    /** Current format version. */
+    public static final short VERSION = 1;
+    /** Header flag marking a deflated body. */
+    public static final short FLAG_DEFLATE = 1;
+
+    private static final int MAGIC = 0x534C4F47; // "GOLS" in little-endian
+    private static final int HEADER_BYTES = 48;
+    private static final int TYPE_COUNT = CellType.values().length;
+    private static final int CHUNK_BYTES = 1 << 16;
+    // Largest region handed to the inflater at once; a ByteBuffer is indexed by int
+    private static final long INFLATE_WINDOW = 1L << 30;
+
+    private SnapshotFormat() {
+    }
+
+    /* ---------- WRITING ---------- */
+    /**
+     * Saves a board, atomically replacing the file if it exists.
+     *
+     * @param logic    the board to save
+     * @param path     the file to write
+     * @param compress true to deflate the body
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(LifeLogic logic, Path path, boolean compress) throws IOException {
+        Path absolute = path.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                long bodyBytes = compress ? writeDeflated(logic, channel) : writeMapped(logic, channel);
+                channel.write(header(logic, compress, bodyBytes), 0);
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes the body uncompressed into a mapping of the file.
+     * @return the body length in bytes
+     */
+    private static long writeMapped(LifeLogic logic, FileChannel channel) throws IOException {
+        long bodyBytes = bodyBytes(logic.getRows() * logic.getCols());
+        byte[] chunk = new byte[CHUNK_BYTES];
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment body = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES, bodyBytes, arena);
+            for (long offset = 0; offset < bodyBytes; offset += CHUNK_BYTES) {
+                int length = (int) Math.min(CHUNK_BYTES, bodyBytes - offset);
+                pack(logic, offset, chunk, length);
+                MemorySegment.copy(chunk, 0, body, ValueLayout.JAVA_BYTE, offset, length);
+            }
+            body.force();
+        }
+        return bodyBytes;
+    }
+
+    /**
+     * Writes the body deflated, a chunk at a time.
+     * @return the body length in bytes
+     */
+    private static long writeDeflated(LifeLogic logic, FileChannel channel) throws IOException {
+        long rawBytes = bodyBytes(logic.getRows() * logic.getCols());
+        byte[] chunk = new byte[CHUNK_BYTES];
+        ByteBuffer output = ByteBuffer.allocate(CHUNK_BYTES);
+        Deflater deflater = new Deflater();
+        long written = 0;
+        channel.position(HEADER_BYTES);
+        try {
+            for (long offset = 0; offset < rawBytes; offset += CHUNK_BYTES) {
+                int length = (int) Math.min(CHUNK_BYTES, rawBytes - offset);
+                pack(logic, offset, chunk, length);
+                deflater.setInput(chunk, 0, length);
+                while (!deflater.needsInput()) {
+                    written += drain(deflater, output, channel);
+                }
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                written += drain(deflater, output, channel);
+            }
+        } finally {
+            deflater.end();
+        }
+        return written;
+    }
+
+    private static int drain(Deflater deflater, ByteBuffer output, FileChannel channel) throws IOException {
+        output.clear();
+        deflater.deflate(output);
+        output.flip();
+        int length = output.remaining();
+        while (output.hasRemaining()) {
+            channel.write(output);
+        }
+        return length;
+    }
+
+    private static ByteBuffer header(LifeLogic logic, boolean compress, long bodyBytes) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort(compress ? FLAG_DEFLATE : 0)
+                .putInt(logic.getRows())
+                .putInt(logic.getCols())
+                .putLong(logic.getGenerationCount())
+                .putLong(logic.getLivingCount())
+                .putLong(logic.getDeceasedCount())
+                .putLong(bodyBytes);
+        return header.flip();
+    }
+
+    /* ---------- READING ---------- */
+    /**
+     * Loads a board saved by {@link #write}, along with its statistics.
+     *
+     * @param path the file to read
+     * @return a new board holding the snapshot
+     * @throws IOException if the file cannot be read, or is not a valid snapshot
+     */
+    public static LifeLogic read(Path path) throws IOException {
+        return read(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Loads a board saved by {@link #write}, along with its statistics, and refuses
+     * boards larger than the caller can hold before allocating them.
+     *
+     * @param path    the file to read
+     * @param maxSize the most rows or columns the board may have
+     * @return a new board holding the snapshot
+     * @throws IOException if the file cannot be read, or is not a valid snapshot
+     * @throws IllegalArgumentException if the board has more rows or columns than the limit
+     */
+    public static LifeLogic read(Path path, int maxSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            int read;
+            do {
+                read = channel.read(header);
+            } while (read >= 0 && header.hasRemaining());
+            if (header.hasRemaining() || header.flip().getInt() != MAGIC) {
+                throw new IOException(path + " is not a Game of Life snapshot");
+            }
+            short version = header.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            boolean compressed = (header.getShort() & FLAG_DEFLATE) != 0;
+            int rows = header.getInt();
+            int cols = header.getInt();
+            long generation = header.getLong();
+            long living = header.getLong();
+            long deceased = header.getLong();
+            long bodyBytes = header.getLong();
+
+            if (rows < 1 || cols < 1 || (long) rows * cols > Integer.MAX_VALUE - 8) {
+                throw new IOException("Invalid snapshot dimensions " + rows + "x" + cols);
+            }
+            if (rows > maxSize || cols > maxSize) {
+                throw new IllegalArgumentException("The snapshot is " + rows + "x" + cols
+                        + ", larger than the limit of " + maxSize + "x" + maxSize);
+            }
+            if (bodyBytes < 0 || HEADER_BYTES + bodyBytes > channel.size()
+                    || (!compressed && bodyBytes != bodyBytes(rows * cols))) {
+                throw new IOException("Truncated snapshot body");
+            }
+            int generationCount = statistic("generation", generation);
+            int deceasedCount = statistic("deceased", deceased);
+            statistic("living", living);
+
+            LifeLogic logic = new LifeLogic(rows, cols);
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment body = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, bodyBytes, arena);
+                if (compressed) {
+                    readDeflated(logic, body);
+                } else {
+                    readMapped(logic, body);
+                }
+            }
+            logic.markModified();
+            // The header's living count is only range-checked; the planes are authoritative
+            logic.restoreStatistics(generationCount, countLiving(logic), deceasedCount);
+            return logic;
+        }
+    }
+
+    /**
+     * Checks that a header statistic is a count the board can hold.
+     *
+     * @param name  the statistic's name, for the error message
+     * @param value the value read from the header
+     * @return the value as an {@code int}
+     * @throws IOException if the value is negative or does not fit an {@code int}
+     */
+    private static int statistic(String name, long value) throws IOException {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Invalid snapshot " + name + " count " + value);
+        }
+        return (int) value;
+    }
+
+    private static int countLiving(LifeLogic logic) {
+        int living = 0;
+        for (byte cell : logic.alivePlane()) {
+            living += cell;
+        }
+        return living;
+    }
+
+    private static void readMapped(LifeLogic logic, MemorySegment body) throws IOException {
+        long bodyBytes = body.byteSize();
+        byte[] chunk = new byte[CHUNK_BYTES];
+        for (long offset = 0; offset < bodyBytes; offset += CHUNK_BYTES) {
+            int length = (int) Math.min(CHUNK_BYTES, bodyBytes - offset);
+            MemorySegment.copy(body, ValueLayout.JAVA_BYTE, offset, chunk, 0, length);
+            unpack(logic, offset, chunk, length);
+        }
+    }
+
+    private static void readDeflated(LifeLogic logic, MemorySegment body) throws IOException {
+        long bodyBytes = body.byteSize();
+        long rawBytes = bodyBytes(logic.getRows() * logic.getCols());
+        byte[] chunk = new byte[CHUNK_BYTES];
+        Inflater inflater = new Inflater();
+        try {
+            long windowStart = 0;
+            long offset = 0;
+            while (offset < rawBytes) {
+                if (inflater.needsInput()) {
+                    if (windowStart >= bodyBytes) {
+                        throw new IOException("Truncated snapshot body");
+                    }
+                    long windowBytes = Math.min(INFLATE_WINDOW, bodyBytes - windowStart);
+                    inflater.setInput(body.asSlice(windowStart, windowBytes).asByteBuffer());
+                    windowStart += windowBytes;
+                }
+                int length = (int) Math.min(CHUNK_BYTES, rawBytes - offset);
+                int filled = 0;
+                while (filled < length && !inflater.needsInput()) {
+                    int inflated = inflater.inflate(chunk, filled, length - filled);
+                    if (inflated == 0 && (inflater.finished() || inflater.needsDictionary())) {
+                        throw new IOException("Truncated snapshot body");
+                    }
+                    filled += inflated;
+                }
+                unpack(logic, offset, chunk, filled);
+                offset += filled;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt snapshot body", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /* ---------- PACKING ---------- */
+    /**
+     * Returns the length of the uncompressed body for a number of cells.
+     */
+    private static long bodyBytes(int cells) {
+        return aliveBytes(cells) + ((cells + 3L) >>> 2);
+    }
+
+    private static long aliveBytes(int cells) {
+        return (cells + 7L) >>> 3;
+    }
+
+    /**
+     * Fills {@code chunk} with {@code length} bytes of the body, starting at {@code offset}.
+     */
+    private static void pack(LifeLogic logic, long offset, byte[] chunk, int length) {
+        byte[] alive = logic.alivePlane();
+        byte[] cellTypes = logic.cellTypePlane();
+        long aliveBytes = aliveBytes(alive.length);
+        for (int i = 0; i < length; i++) {
+            long position = offset + i;
+            int bits = 0;
+            if (position < aliveBytes) {
+                int first = (int) (position << 3);
+                int last = Math.min(first + 8, alive.length);
+                for (int cell = first; cell < last; cell++) {
+                    bits |= alive[cell] << (cell - first);
+                }
+            } else {
+                int first = (int) ((position - aliveBytes) << 2);
+                int last = Math.min(first + 4, cellTypes.length);
+                for (int cell = first; cell < last; cell++) {
+                    bits |= cellTypes[cell] << ((cell - first) << 1);
+                }
+            }
+            chunk[i] = (byte) bits;
+        }
+    }
+
+    /**
+     * Writes {@code length} bytes of the body, starting at {@code offset}, into the planes.
+     */
+    private static void unpack(LifeLogic logic, long offset, byte[] chunk, int length) throws IOException {
+        byte[] alive = logic.alivePlane();
+        byte[] cellTypes = logic.cellTypePlane();
+        long aliveBytes = aliveBytes(alive.length);
+        for (int i = 0; i < length; i++) {
+            long position = offset + i;
+            int bits = chunk[i] & 0xFF;
+            if (position < aliveBytes) {
+                int first = (int) (position << 3);
+                int last = Math.min(first + 8, alive.length);
+                for (int cell = first; cell < last; cell++) {
+                    alive[cell] = (byte) ((bits >>> (cell - first)) & 1);
+                }
+            } else {
+                int first = (int) ((position - aliveBytes) << 2);
+                int last = Math.min(first + 4, cellTypes.length);
+                for (int cell = first; cell < last; cell++) {
+                    int type = (bits >>> ((cell - first) << 1)) & 3;
+                    if (type >= TYPE_COUNT) {
+                        throw new IOException("Corrupt snapshot body: invalid cell type " + type);
+                    }
+                    cellTypes[cell] = (byte) type;
+                }
+            }
+        }
+    }
+}
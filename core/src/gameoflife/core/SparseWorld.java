@@ -0,0 +1,419 @@
+package gameoflife.core;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * Unbounded world backed by a hash map of fixed-size chunks. Life is stored as 64x64
+ * chunks of bit rows keyed by packed chunk coordinates; a chunk is allocated when life
+ * reaches it and released as soon as it goes fully dead, so memory is proportional to
+ * the live area. Plant and Wall cells are tracked separately as terrain, which persists
+ * whether or not anything is alive on it. Every other cell is an Animal cell.
+ *
+ * <pre>
+ * Implementation:  Each chunk row is one {@code long}, so a chunk is stepped with the
+ * same bit-sliced rules as {@code BitboardEngine}, taking edge bits
+ * from the 8 neighboring chunks. Empty chunks next to a live edge
+ * are stepped too, letting patterns grow into them.
+ * Memory:          Released chunks are kept for reuse up to the number of live
+ * chunks, so the next step allocates little, and the rest are left
+ * to the garbage collector, so memory shrinks after a population spike.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class SparseWorld {
+    /** Width and height of a chunk, in cells. */
+    public static final int CHUNK_SIZE = 64;
+    private static final int TYPE_COUNT = BitSlicedRules.TYPE_COUNT;
+    private static final int ANIMAL = CellType.ANIMAL.ordinal();
+    private static final int PLANT = CellType.PLANT.ordinal();
+    private static final int WALL = CellType.WALL.ordinal();
+    // Released chunks kept for reuse however few chunks are live
+    private static final int MIN_FREE_CHUNKS = 64;
+
+    /**
+     * Inclusive bounding box of the living cells.
+     *
+     * @param top    the lowest row containing a living cell
+     * @param left   the lowest column containing a living cell
+     * @param bottom the highest row containing a living cell
+     * @param right  the highest column containing a living cell
+     */
+    public record Bounds(long top, long left, long bottom, long right) {
+    }
+
+    private BitSlicedRules rules;
+    private HashMap<Long, long[]> life = new HashMap<>();
+    private HashMap<Long, long[]> nextLife = new HashMap<>();
+    private final HashMap<Long, long[]> plants = new HashMap<>();
+    private final HashMap<Long, long[]> walls = new HashMap<>();
+    private final ArrayDeque<long[]> freeChunks = new ArrayDeque<>();
+
+    private long population = 0;
+
+    /**
+     * Constructs an empty world that follows the rules of a logic board.
+     * @param board the board whose rules are used
+     */
+    public SparseWorld(LifeLogic board) {
+        rules = new BitSlicedRules(board);
+    }
+
+    /**
+     * Replaces the rules the world follows from the next generation on.
+     * @param rules the new rules
+     */
+    void setRules(BitSlicedRules rules) {
+        this.rules = rules;
+    }
+
+    /* ---------- SIMULATION ---------- */
+    /**
+     * Advances the whole world by one generation.
+     * @return the population, births and deaths of the world
+     */
+    public StepCounts step() {
+        long[] countEquals = new long[9];
+        long[] typeWords = new long[TYPE_COUNT];
+        HashSet<Long> candidates = new HashSet<>();
+
+        for (Map.Entry<Long, long[]> entry : life.entrySet()) {
+            long key = entry.getKey();
+            long[] rows = entry.getValue();
+            candidates.add(key);
+
+            long westEdge = 0;
+            long eastEdge = 0;
+            for (long row : rows) {
+                westEdge |= row & 1;
+                eastEdge |= row >>> 63;
+            }
+            long top = rows[0];
+            long bottom = rows[CHUNK_SIZE - 1];
+            int cy = chunkY(key);
+            int cx = chunkX(key);
+            if (top != 0) candidates.add(key(cy - 1, cx));
+            if (bottom != 0) candidates.add(key(cy + 1, cx));
+            if (westEdge != 0) candidates.add(key(cy, cx - 1));
+            if (eastEdge != 0) candidates.add(key(cy, cx + 1));
+            if ((top & 1) != 0) candidates.add(key(cy - 1, cx - 1));
+            if ((top >>> 63) != 0) candidates.add(key(cy - 1, cx + 1));
+            if ((bottom & 1) != 0) candidates.add(key(cy + 1, cx - 1));
+            if ((bottom >>> 63) != 0) candidates.add(key(cy + 1, cx + 1));
+        }
+
+        long living = 0;
+        int births = 0;
+        int deaths = 0;
+        for (long key : candidates) {
+            int cy = chunkY(key);
+            int cx = chunkX(key);
+            long[] center = life.get(key);
+            long[] north = life.get(key(cy - 1, cx));
+            long[] south = life.get(key(cy + 1, cx));
+            long[] west = life.get(key(cy, cx - 1));
+            long[] east = life.get(key(cy, cx + 1));
+            long[] northWest = life.get(key(cy - 1, cx - 1));
+            long[] northEast = life.get(key(cy - 1, cx + 1));
+            long[] southWest = life.get(key(cy + 1, cx - 1));
+            long[] southEast = life.get(key(cy + 1, cx + 1));
+            long[] plantRows = plants.get(key);
+            long[] wallRows = walls.get(key);
+
+            long[] result = allocateChunk();
+            boolean empty = true;
+            for (int r = 0; r < CHUNK_SIZE; r++) {
+                long above;
+                long aboveWest;
+                long aboveEast;
+                if (r > 0) {
+                    above = row(center, r - 1);
+                    aboveWest = row(west, r - 1);
+                    aboveEast = row(east, r - 1);
+                } else {
+                    above = row(north, CHUNK_SIZE - 1);
+                    aboveWest = row(northWest, CHUNK_SIZE - 1);
+                    aboveEast = row(northEast, CHUNK_SIZE - 1);
+                }
+                long below;
+                long belowWest;
+                long belowEast;
+                if (r < CHUNK_SIZE - 1) {
+                    below = row(center, r + 1);
+                    belowWest = row(west, r + 1);
+                    belowEast = row(east, r + 1);
+                } else {
+                    below = row(south, 0);
+                    belowWest = row(southWest, 0);
+                    belowEast = row(southEast, 0);
+                }
+                long word = row(center, r);
+                long sameWest = row(west, r);
+                long sameEast = row(east, r);
+
+                long plantWord = row(plantRows, r);
+                long wallWord = row(wallRows, r);
+                typeWords[ANIMAL] = ~(plantWord | wallWord);
+                typeWords[PLANT] = plantWord;
+                typeWords[WALL] = wallWord;
+
+                long nextWord = rules.next(
+                        (above << 1) | (aboveWest >>> 63), above, (above >>> 1) | (aboveEast << 63),
+                        (word << 1) | (sameWest >>> 63), (word >>> 1) | (sameEast << 63),
+                        (below << 1) | (belowWest >>> 63), below, (below >>> 1) | (belowEast << 63),
+                        word, typeWords, countEquals);
+
+                result[r] = nextWord;
+                living += Long.bitCount(nextWord);
+                births += Long.bitCount(nextWord & ~word);
+                deaths += Long.bitCount(word & ~nextWord);
+                empty &= nextWord == 0;
+            }
+
+            if (empty) {
+                releaseChunk(result);
+            } else {
+                nextLife.put(key, result);
+            }
+        }
+
+        for (long[] chunk : life.values()) {
+            releaseChunk(chunk);
+        }
+        life.clear();
+        HashMap<Long, long[]> previous = life;
+        life = nextLife;
+        nextLife = previous;
+        trimFreeChunks();
+
+        population = living;
+        return new StepCounts((int) Math.min(living, Integer.MAX_VALUE), births, deaths);
+    }
+
+    /**
+     * Returns an empty chunk, reusing a released one when available.
+     */
+    private long[] allocateChunk() {
+        if (freeChunks.isEmpty()) {
+            return new long[CHUNK_SIZE];
+        }
+        long[] chunk = freeChunks.pop();
+        Arrays.fill(chunk, 0);
+        return chunk;
+    }
+
+    /**
+     * Keeps a released chunk for reuse, unless the free list already holds as many
+     * chunks as are live.
+     */
+    private void releaseChunk(long[] chunk) {
+        if (freeChunks.size() < freeChunkLimit()) {
+            freeChunks.push(chunk);
+        }
+    }
+
+    /**
+     * Drops the free chunks beyond the limit, e.g. after the live area shrank.
+     */
+    private void trimFreeChunks() {
+        int limit = freeChunkLimit();
+        while (freeChunks.size() > limit) {
+            freeChunks.pop();
+        }
+    }
+
+    private int freeChunkLimit() {
+        return Math.max(MIN_FREE_CHUNKS, life.size());
+    }
+
+    private static long row(long[] rows, int r) {
+        return rows == null ? 0 : rows[r];
+    }
+
+    /* ---------- CELL ACCESS ---------- */
+    /**
+     * Places a cell in the world.
+     *
+     * @param row     the row of the cell
+     * @param col     the column of the cell
+     * @param type    the type of the cell
+     * @param isAlive the living state of the cell
+     */
+    public void setCell(long row, long col, CellType type, boolean isAlive) {
+        long key = key((int) Math.floorDiv(row, CHUNK_SIZE), (int) Math.floorDiv(col, CHUNK_SIZE));
+        int r = Math.floorMod(row, CHUNK_SIZE);
+        long bit = 1L << Math.floorMod(col, CHUNK_SIZE);
+
+        setBit(plants, key, r, bit, type == CellType.PLANT);
+        setBit(walls, key, r, bit, type == CellType.WALL);
+
+        long[] rows = life.get(key);
+        boolean wasAlive = rows != null && (rows[r] & bit) != 0;
+        if (wasAlive != isAlive) {
+            population += isAlive ? 1 : -1;
+            setBit(life, key, r, bit, isAlive);
+        }
+    }
+
+    /**
+     * Sets or clears one bit of a chunk map, allocating and releasing chunks as needed.
+     */
+    private void setBit(HashMap<Long, long[]> chunks, long key, int r, long bit, boolean set) {
+        long[] rows = chunks.get(key);
+        if (set) {
+            if (rows == null) {
+                rows = allocateChunk();
+                chunks.put(key, rows);
+            }
+            rows[r] |= bit;
+        } else if (rows != null) {
+            rows[r] &= ~bit;
+            for (long word : rows) {
+                if (word != 0) return;
+            }
+            chunks.remove(key);
+            releaseChunk(rows);
+        }
+    }
+
+    /**
+     * Returns whether a cell of the world is alive.
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return true if the cell is alive
+     */
+    public boolean isAlive(long row, long col) {
+        return testBit(life, row, col);
+    }
+
+    /**
+     * Returns the type of a cell of the world.
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the {@code CellType} of the cell
+     */
+    public CellType getCellType(long row, long col) {
+        if (testBit(walls, row, col)) return CellType.WALL;
+        if (testBit(plants, row, col)) return CellType.PLANT;
+        return CellType.ANIMAL;
+    }
+
+    private static boolean testBit(HashMap<Long, long[]> chunks, long row, long col) {
+        long[] rows = chunks.get(key((int) Math.floorDiv(row, CHUNK_SIZE), (int) Math.floorDiv(col, CHUNK_SIZE)));
+        return rows != null && (rows[Math.floorMod(row, CHUNK_SIZE)] & (1L << Math.floorMod(col, CHUNK_SIZE))) != 0;
+    }
+
+    /**
+     * Copies a rectangular window of the world into row-major type and alive planes.
+     *
+     * @param top       the first row of the window
+     * @param left      the first column of the window
+     * @param rows      the number of rows in the window
+     * @param cols      the number of columns in the window
+     * @param cellTypes the type plane to fill, or null to skip types
+     * @param alive     the alive plane to fill
+     */
+    public void readWindow(long top, long left, int rows, int cols, byte[] cellTypes, byte[] alive) {
+        for (int r = 0; r < rows; r++) {
+            long row = top + r;
+            int chunkY = (int) Math.floorDiv(row, CHUNK_SIZE);
+            int chunkRow = Math.floorMod(row, CHUNK_SIZE);
+
+            // Walk the window row one chunk-wide segment at a time
+            int c = 0;
+            while (c < cols) {
+                long col = left + c;
+                long key = key(chunkY, (int) Math.floorDiv(col, CHUNK_SIZE));
+                int firstBit = Math.floorMod(col, CHUNK_SIZE);
+                int segment = Math.min(CHUNK_SIZE - firstBit, cols - c);
+
+                long lifeWord = row(life.get(key), chunkRow);
+                long plantWord = row(plants.get(key), chunkRow);
+                long wallWord = row(walls.get(key), chunkRow);
+                for (int b = firstBit; b < firstBit + segment; b++) {
+                    int index = r * cols + c + (b - firstBit);
+                    alive[index] = (byte) ((lifeWord >>> b) & 1);
+                    if (cellTypes != null) {
+                        cellTypes[index] = (byte) (((wallWord >>> b) & 1) != 0 ? WALL
+                                : ((plantWord >>> b) & 1) != 0 ? PLANT : ANIMAL);
+                    }
+                }
+                c += segment;
+            }
+        }
+    }
+
+    /**
+     * Removes every cell from the world.
+     */
+    public void clear() {
+        life.clear();
+        plants.clear();
+        walls.clear();
+        trimFreeChunks();
+        population = 0;
+    }
+
+    /* ---------- QUERIES ---------- */
+    /**
+     * Returns the number of living cells in the whole world.
+     * @return the population
+     */
+    public long getPopulation() {
+        return population;
+    }
+
+    /**
+     * Returns the number of allocated life chunks.
+     * @return the chunk count
+     */
+    public int getChunkCount() {
+        return life.size();
+    }
+
+    /**
+     * Computes the bounding box of every living cell in the world.
+     * @return the bounds, or null if nothing is alive
+     */
+    public Bounds getBounds() {
+        long top = Long.MAX_VALUE;
+        long left = Long.MAX_VALUE;
+        long bottom = Long.MIN_VALUE;
+        long right = Long.MIN_VALUE;
+        for (Map.Entry<Long, long[]> entry : life.entrySet()) {
+            long originRow = (long) chunkY(entry.getKey()) * CHUNK_SIZE;
+            long originCol = (long) chunkX(entry.getKey()) * CHUNK_SIZE;
+            long[] rows = entry.getValue();
+            long columns = 0;
+            for (int r = 0; r < CHUNK_SIZE; r++) {
+                if (rows[r] != 0) {
+                    top = Math.min(top, originRow + r);
+                    bottom = Math.max(bottom, originRow + r);
+                    columns |= rows[r];
+                }
+            }
+            left = Math.min(left, originCol + Long.numberOfTrailingZeros(columns));
+            right = Math.max(right, originCol + 63 - Long.numberOfLeadingZeros(columns));
+        }
+        return top == Long.MAX_VALUE ? null : new Bounds(top, left, bottom, right);
+    }
+
+    /* ---------- CHUNK KEYS ---------- */
+    private static long key(int chunkY, int chunkX) {
+        return ((long) chunkY << 32) | (chunkX & 0xFFFFFFFFL);
+    }
+
+    private static int chunkY(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int chunkX(long key) {
+        return (int) key;
+    }
+}
@@ -0,0 +1,24 @@
+package gameoflife.core;
+
+/**
+ * Per-generation counts reported by a {@code GenerationEngine}.
+ *
+ * @param living the number of living cells after the step
+ * @param births the number of cells that came alive during the step
+ * @param deaths the number of cells that died during the step
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public record StepCounts(int living, int births, int deaths) {
+
+    /**
+     * Adds the counts of another part of the same generation to these counts.
+     * @param other the counts to add
+     * @return the combined counts
+     */
+    public StepCounts plus(StepCounts other) {
+        return new StepCounts(living + other.living, births + other.births, deaths + other.deaths);
+    }
+}
@@ -0,0 +1,309 @@
+package gameoflife.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A fixed-memory store of samples of several channels over a growing position, such as
+ * the generation. Samples are kept in at most {@code capacity} buckets, each holding the
+ * minimum, maximum and sum of every channel over a run of consecutive samples. Once the
+ * buckets are full, each pair of neighbors is merged into one, so every bucket covers
+ * twice as many samples as before. Memory and the cost of reading the whole series stay
+ * bounded by the capacity however long the run, while spikes survive in the minimums
+ * and maximums.
+ *
+ * <pre>
+ * Resolution:      After n samples, each bucket covers the smallest power of two of
+ * samples that fits n into the capacity, so at least half of the
+ * buckets are always in use.
+ * Threads:         Every method is synchronized, so one thread may record while another
+ * reads; {@link #copy} takes a consistent view to read at leisure.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+public class TimeSeries {
+    private final List<String> channels;
+    private final int capacity;
+
+    // Position range and sample count of every bucket
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] counts;
+    // Statistics of every bucket and channel, at bucket * channels + channel
+    private final double[] mins;
+    private final double[] maxs;
+    private final double[] sums;
+
+    private int size = 0;
+    // Samples per bucket, doubled by every merge
+    private int span = 1;
+
+    /**
+     * Constructs an empty series.
+     * @param channels the names of the channels every sample holds a value for
+     * @param capacity the maximum number of buckets, an even number of at least 2
+     * @throws IllegalArgumentException if there are no channels or the capacity is invalid
+     */
+    public TimeSeries(List<String> channels, int capacity) {
+        if (channels.isEmpty()) {
+            throw new IllegalArgumentException("A time series needs at least one channel");
+        }
+        if (capacity < 2 || capacity % 2 != 0) {
+            throw new IllegalArgumentException("The capacity must be an even number of at least 2: " + capacity);
+        }
+        this.channels = List.copyOf(channels);
+        this.capacity = capacity;
+        starts = new long[capacity];
+        ends = new long[capacity];
+        counts = new int[capacity];
+        mins = new double[capacity * channels.size()];
+        maxs = new double[capacity * channels.size()];
+        sums = new double[capacity * channels.size()];
+    }
+
+    /**
+     * Constructs a copy of another series.
+     */
+    private TimeSeries(TimeSeries other) {
+        channels = other.channels;
+        capacity = other.capacity;
+        starts = other.starts.clone();
+        ends = other.ends.clone();
+        counts = other.counts.clone();
+        mins = other.mins.clone();
+        maxs = other.maxs.clone();
+        sums = other.sums.clone();
+        size = other.size;
+        span = other.span;
+    }
+
+    /* ---------- RECORDING ---------- */
+    /**
+     * Adds a sample. A sample at or before the position of the last one, e.g. after
+     * the board was reset or rewound, starts the series over.
+     *
+     * @param position the position of the sample, e.g. the generation
+     * @param values   the value of every channel, in channel order
+     * @throws IllegalArgumentException if the number of values does not match the channels
+     */
+    public synchronized void add(long position, double[] values) {
+        int width = channels.size();
+        if (values.length != width) {
+            throw new IllegalArgumentException("Expected " + width + " values, got " + values.length);
+        }
+        if (size > 0 && position <= ends[size - 1]) {
+            clear();
+        }
+        if (size == 0 || counts[size - 1] == span) {
+            if (size == capacity) {
+                mergePairs();
+            }
+            starts[size] = position;
+            counts[size] = 0;
+            Arrays.fill(mins, size * width, (size + 1) * width, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxs, size * width, (size + 1) * width, Double.NEGATIVE_INFINITY);
+            Arrays.fill(sums, size * width, (size + 1) * width, 0);
+            size++;
+        }
+
+        int bucket = size - 1;
+        ends[bucket] = position;
+        counts[bucket]++;
+        for (int channel = 0; channel < width; channel++) {
+            int i = bucket * width + channel;
+            mins[i] = Math.min(mins[i], values[channel]);
+            maxs[i] = Math.max(maxs[i], values[channel]);
+            sums[i] += values[channel];
+        }
+    }
+
+    /**
+     * Merges every pair of neighboring buckets, halving the buckets in use.
+     */
+    private void mergePairs() {
+        int width = channels.size();
+        for (int to = 0; to < size / 2; to++) {
+            int a = 2 * to;
+            int b = a + 1;
+            starts[to] = starts[a];
+            ends[to] = ends[b];
+            counts[to] = counts[a] + counts[b];
+            for (int channel = 0; channel < width; channel++) {
+                mins[to * width + channel] = Math.min(mins[a * width + channel], mins[b * width + channel]);
+                maxs[to * width + channel] = Math.max(maxs[a * width + channel], maxs[b * width + channel]);
+                sums[to * width + channel] = sums[a * width + channel] + sums[b * width + channel];
+            }
+        }
+        size /= 2;
+        span *= 2;
+    }
+
+    /**
+     * Removes every sample and returns to single-sample buckets.
+     */
+    public synchronized void clear() {
+        size = 0;
+        span = 1;
+    }
+
+    /**
+     * Returns a copy of the series, which does not change as samples are added to this one.
+     * @return the copy
+     */
+    public synchronized TimeSeries copy() {
+        return new TimeSeries(this);
+    }
+
+    /* ---------- READING ---------- */
+    /**
+     * Returns the names of the channels.
+     * @return the channel names, in the order of the values of a sample
+     */
+    public List<String> getChannels() {
+        return channels;
+    }
+
+    /**
+     * Returns the number of buckets in use.
+     * @return the bucket count, at most the capacity
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of samples a full bucket holds at the current resolution.
+     * @return the samples per bucket
+     */
+    public synchronized int getSpan() {
+        return span;
+    }
+
+    /**
+     * Returns the position of the first sample of a bucket.
+     * @param bucket the bucket index
+     * @return the position
+     */
+    public synchronized long getStart(int bucket) {
+        return starts[checkBucket(bucket)];
+    }
+
+    /**
+     * Returns the position of the last sample of a bucket.
+     * @param bucket the bucket index
+     * @return the position
+     */
+    public synchronized long getEnd(int bucket) {
+        return ends[checkBucket(bucket)];
+    }
+
+    /**
+     * Returns the number of samples in a bucket.
+     * @param bucket the bucket index
+     * @return the sample count
+     */
+    public synchronized int getCount(int bucket) {
+        return counts[checkBucket(bucket)];
+    }
+
+    /**
+     * Returns the smallest value of a channel within a bucket.
+     * @param bucket  the bucket index
+     * @param channel the channel index
+     * @return the minimum
+     */
+    public synchronized double getMin(int bucket, int channel) {
+        return mins[index(bucket, channel)];
+    }
+
+    /**
+     * Returns the largest value of a channel within a bucket.
+     * @param bucket  the bucket index
+     * @param channel the channel index
+     * @return the maximum
+     */
+    public synchronized double getMax(int bucket, int channel) {
+        return maxs[index(bucket, channel)];
+    }
+
+    /**
+     * Returns the mean value of a channel within a bucket.
+     * @param bucket  the bucket index
+     * @param channel the channel index
+     * @return the mean
+     */
+    public synchronized double getMean(int bucket, int channel) {
+        return sums[index(bucket, channel)] / counts[bucket];
+    }
+
+    private int checkBucket(int bucket) {
+        if (bucket < 0 || bucket >= size) {
+            throw new IndexOutOfBoundsException("Bucket " + bucket + " of " + size);
+        }
+        return bucket;
+    }
+
+    private int index(int bucket, int channel) {
+        checkBucket(bucket);
+        if (channel < 0 || channel >= channels.size()) {
+            throw new IndexOutOfBoundsException("Channel " + channel + " of " + channels.size());
+        }
+        return bucket * channels.size() + channel;
+    }
+
+    /* ---------- CSV ---------- */
+    /**
+     * Writes the series as CSV: one row per bucket with its first and last position,
+     * its sample count, and the minimum, mean and maximum of every channel.
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeCsv(writer);
+        }
+    }
+
+    /**
+     * Writes the series as CSV, see {@link #writeCsv(Path)}.
+     * @param writer the stream to write to, which is not closed
+     * @throws IOException if the stream cannot be written
+     */
+    public synchronized void writeCsv(Writer writer) throws IOException {
+        StringBuilder line = new StringBuilder("start,end,samples");
+        for (String channel : channels) {
+            line.append(',').append(channel).append("_min")
+                    .append(',').append(channel).append("_mean")
+                    .append(',').append(channel).append("_max");
+        }
+        writer.write(line.append('\n').toString());
+
+        int width = channels.size();
+        for (int bucket = 0; bucket < size; bucket++) {
+            line.setLength(0);
+            line.append(starts[bucket]).append(',').append(ends[bucket]).append(',').append(counts[bucket]);
+            for (int channel = 0; channel < width; channel++) {
+                int i = bucket * width + channel;
+                line.append(',').append(number(mins[i]))
+                        .append(',').append(number(sums[i] / counts[bucket]))
+                        .append(',').append(number(maxs[i]));
+            }
+            writer.write(line.append('\n').toString());
+        }
+    }
+
+    /**
+     * Formats a value without a fraction when it is a whole number, as counts are.
+     */
+    private static String number(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15 ? Long.toString((long) value) : Double.toString(value);
+    }
+}
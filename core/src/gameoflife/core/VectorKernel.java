@@ -0,0 +1,141 @@
+package gameoflife.core;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@code jdk.incubator.vector} half of the {@code VectorEngine}. Only loaded once
+ * the engine has found the incubator module, so the rest of the core module never
+ * links against it.
+ *
+ * <pre>
+ * Counting:        The 8 neighbor rows of a run of cells are loaded from the padded
+ * plane at fixed offsets and summed with byte adds.
+ * Rules:           Each type's birth and survival counts are a vector of next states
+ * indexed by neighbor count, so one {@code selectFrom} applies a rule
+ * to every lane. The state and type of each lane blend the results.
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+final class VectorKernel {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final CellType[] CELL_TYPES = CellType.values();
+
+    // Next states by neighbor count of every type that can live, indexed by CellType ordinal
+    private final ByteVector[] births = new ByteVector[CELL_TYPES.length];
+    private final ByteVector[] survivals = new ByteVector[CELL_TYPES.length];
+    private byte[] compiledTable;
+
+    /**
+     * Checks whether the preferred species has a lane for every neighbor count.
+     * @return true if the kernel can run on this machine
+     */
+    static boolean isSupported() {
+        return SPECIES.length() > 8 && SPECIES.length() <= 64;
+    }
+
+    /**
+     * Returns the number of cells computed per vector.
+     * @return the lane count of the preferred byte species
+     */
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Returns the width of the vectors in bits.
+     * @return the bit size of the preferred byte species
+     */
+    static int bitSize() {
+        return SPECIES.vectorBitSize();
+    }
+
+    /**
+     * Rebuilds the rule vectors when the board's rule table has been replaced.
+     * @param ruleTable the board's compiled rule table
+     */
+    void setRules(byte[] ruleTable) {
+        if (ruleTable == compiledTable) return;
+        for (CellType type : CELL_TYPES) {
+            int t = type.ordinal();
+            byte[] birth = new byte[SPECIES.length()];
+            byte[] survival = new byte[SPECIES.length()];
+            boolean lifeless = true;
+            for (int n = 0; n <= 8; n++) {
+                birth[n] = ruleTable[t << RuleRegistry.TYPE_SHIFT | n];
+                survival[n] = ruleTable[t << RuleRegistry.TYPE_SHIFT | 1 << RuleRegistry.ALIVE_SHIFT | n];
+                lifeless &= birth[n] == 0 && survival[n] == 0;
+            }
+            births[t] = lifeless ? null : ByteVector.fromArray(SPECIES, birth, 0);
+            survivals[t] = lifeless ? null : ByteVector.fromArray(SPECIES, survival, 0);
+        }
+        compiledTable = ruleTable;
+    }
+
+    /**
+     * Computes the next states of the whole vectors at the start of a row, leaving
+     * the remaining cells to the caller.
+     *
+     * @param padded    the alive plane with a one-cell halo
+     * @param stride    the length of a padded row
+     * @param cellTypes the board's cell-type plane
+     * @param alive     the board's alive plane
+     * @param nextAlive the board's next alive plane
+     * @param changes   the changed cells of the step
+     * @param row       the row to compute
+     * @param cols      the number of columns
+     * @param counts    the living, births and deaths so far, which are added to
+     * @return the first column that was not computed
+     */
+    int stepRow(byte[] padded, int stride, byte[] cellTypes, byte[] alive, byte[] nextAlive,
+                ChangedCells changes, int row, int cols, int[] counts) {
+        int lanes = SPECIES.length();
+        int upper = cols - lanes;
+        int paddedRow = (row + 1) * stride + 1;
+        int rowStart = row * cols;
+        ByteVector zero = ByteVector.zero(SPECIES);
+
+        int c = 0;
+        for (; c <= upper; c += lanes) {
+            int p = paddedRow + c;
+            ByteVector neighbors = ByteVector.fromArray(SPECIES, padded, p - stride - 1)
+                    .add(ByteVector.fromArray(SPECIES, padded, p - stride))
+                    .add(ByteVector.fromArray(SPECIES, padded, p - stride + 1))
+                    .add(ByteVector.fromArray(SPECIES, padded, p - 1))
+                    .add(ByteVector.fromArray(SPECIES, padded, p + 1))
+                    .add(ByteVector.fromArray(SPECIES, padded, p + stride - 1))
+                    .add(ByteVector.fromArray(SPECIES, padded, p + stride))
+                    .add(ByteVector.fromArray(SPECIES, padded, p + stride + 1));
+
+            int index = rowStart + c;
+            ByteVector state = ByteVector.fromArray(SPECIES, alive, index);
+            ByteVector types = ByteVector.fromArray(SPECIES, cellTypes, index);
+            VectorMask<Byte> isAlive = state.compare(VectorOperators.NE, 0);
+
+            ByteVector next = zero;
+            for (int t = 0; t < births.length; t++) {
+                if (births[t] == null) continue;
+                ByteVector ruled = neighbors.selectFrom(births[t])
+                        .blend(neighbors.selectFrom(survivals[t]), isAlive);
+                next = next.blend(ruled, types.compare(VectorOperators.EQ, (byte) t));
+            }
+            next.intoArray(nextAlive, index);
+
+            VectorMask<Byte> isNowAlive = next.compare(VectorOperators.NE, 0);
+            counts[0] += isNowAlive.trueCount();
+            VectorMask<Byte> changed = next.compare(VectorOperators.NE, state);
+            if (changed.anyTrue()) {
+                counts[1] += changed.and(isNowAlive).trueCount();
+                counts[2] += changed.and(isAlive).trueCount();
+                // Runs never straddle a word, since the lane count divides 64
+                changes.markWord(row, c >>> 6, changed.toLong() << (c & 63));
+            }
+        }
+        return c;
+    }
+}
@@ -0,0 +1,8 @@
+module gameoflife.core {
+    requires java.management;
+    requires jdk.jfr;
+    // Optional: only the VectorEngine uses it, and only when it is resolved at runtime
+    requires static jdk.incubator.vector;
+
+    exports gameoflife.core;
+}
@@ -7,6 +7,7 @@ public class Defaults {
     public static final int BOARD_COLS = 17;
     public static final int CELL_WIDTH = 30;
     public static final int CELL_HEIGHT = 30;
+    public static final int MAX_BOARD_SIZE = 10_000;
 
     public static final Color  ANIMAL_LIVE = Color.CYAN;
     public static final Color  ANIMAL_DEAD = Color.MAGENTA;
@@ -16,4 +17,5 @@ public class Defaults {
     public static final Color  STROKE = Color.WHITE;
 
     public static final int TICK_SPEED = 200;
+    public static final long HISTORY_BUDGET = 64L << 20;
 }
@@ -0,0 +1,643 @@
+package gameoflife;
+
+import gameoflife.core.BoardSnapshot;
+import gameoflife.core.CellType;
+import gameoflife.core.ChangedCells;
+import gameoflife.core.DensityMipmap;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Visual projection of the Game of Life grid through a zoomable, pannable viewport.
+ * Only the visible window of the board is drawn, into a {@code WritableImage} the size
+ * of the view backed by an {@code IntBuffer} {@code PixelBuffer}, so the scene graph
+ * holds one node and the image stays the size of the window no matter how many cells
+ * the board has. Cell colors come from a palette indexed by cell type and state,
+ * letting a theme change recolor the board in one pass. Dragging pans the board and
+ * the mouse wheel zooms about the pointer.
+ *
+ * <pre>
+ * File            LifeBoardView.java
+ * Project         Game of Life
+ * Platform        PC, Windows 11; JDK 25
+ * Course          CS 142
+ * Date            02/24/2026
+ * </pre>
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ * @see             javafx.scene.image.PixelBuffer
+ * @see             gameoflife.core.DensityMipmap
+ */
+public class LifeBoardView extends Region {
+    /** Cells narrower or shorter than this, in pixels, are drawn without grid lines. */
+    private static final int MIN_GRID_CELL_SIZE = 3;
+    /** Largest size of a cell, in pixels, the view zooms in to. */
+    private static final double MAX_CELL_SIZE = 256;
+    /** Zoom factor of one mouse wheel notch or zoom command. */
+    private static final double ZOOM_STEP = 1.25;
+    /** Color of the area around the board. */
+    private static final int BACKGROUND = 0;
+
+    private final ImageView imageView = new ImageView();
+    private final DensityMipmap mipmap = new DensityMipmap();
+    // The snapshot last painted, kept to repaint the view as it pans and zooms
+    private BoardSnapshot snapshot;
+
+    private int boardRows;
+    private int boardCols;
+    // The size of a cell at 100% zoom, in pixels
+    private int cellWidth;
+    private int cellHeight;
+
+    /* ---------- VIEWPORT ---------- */
+    private double zoom = 1;
+    // The board position at the top-left corner of the view, in cells
+    private double originX;
+    private double originY;
+    // Set while the view has no size yet, so the board is fitted once it has
+    private boolean fitPending = false;
+    private double dragX;
+    private double dragY;
+
+    private int imageWidth;
+    private int imageHeight;
+    private int[] pixels = new int[0];
+    private PixelBuffer<IntBuffer> pixelBuffer;
+
+    // ARGB color per cell state, indexed by CellType ordinal * 2 + 1 if alive
+    private final int[] palette = new int[CellType.values().length * 2];
+    private int strokeColor;
+    // Cells per state under a pixel when zoomed out
+    private final int[] states = new int[palette.length];
+    private final ChangedCells.Visitor paintChange = this::paintChange;
+
+    private int dirtyMinX;
+    private int dirtyMinY;
+    private int dirtyMaxX;
+    private int dirtyMaxY;
+
+    /**
+     * Constructs an empty board view. {@link #configure} must be called before painting.
+     */
+    public LifeBoardView() {
+        imageView.setSmooth(false);
+        imageView.setManaged(false);
+        getChildren().add(imageView);
+        setMinSize(0, 0);
+        clearDirty();
+
+        addEventHandler(MouseEvent.MOUSE_PRESSED, event -> {
+            dragX = event.getX();
+            dragY = event.getY();
+        });
+        addEventHandler(MouseEvent.MOUSE_DRAGGED, event -> {
+            panBy(event.getX() - dragX, event.getY() - dragY);
+            dragX = event.getX();
+            dragY = event.getY();
+        });
+        addEventHandler(ScrollEvent.SCROLL, event -> {
+            if (event.getDeltaY() == 0) return;
+            zoomAt(event.getX(), event.getY(), event.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP);
+            event.consume();
+        });
+    }
+
+    /**
+     * Sets the board dimensions and the size of a cell at 100% zoom. A board that was
+     * entirely visible is zoomed out as needed to stay entirely visible.
+     *
+     * <pre>
+     * Postconditions:  The board must be repainted.
+     * </pre>
+     *
+     * @param rows       the number of rows in the board
+     * @param cols       the number of columns in the board
+     * @param cellWidth  the width of a cell at 100% zoom, in pixels
+     * @param cellHeight the height of a cell at 100% zoom, in pixels
+     */
+    public void configure(int rows, int cols, int cellWidth, int cellHeight) {
+        boolean wasVisible = boardRows == 0 || fitPending || isBoardVisible();
+        boolean resized = rows != boardRows || cols != boardCols;
+        boardRows = rows;
+        boardCols = cols;
+        this.cellWidth = Math.max(1, cellWidth);
+        this.cellHeight = Math.max(1, cellHeight);
+        zoom = Math.min(zoom, maxZoom());
+
+        if (resized) {
+            mipmap.invalidate();
+            if (wasVisible) {
+                keepBoardVisible();
+            }
+        }
+        clampOrigin();
+    }
+
+    /**
+     * Updates the palette used for each cell type and state.
+     *
+     * @param liveAnimal the color of living animal cells
+     * @param deadAnimal the color of dead animal cells
+     * @param livePlant  the color of living plant cells
+     * @param deadPlant  the color of dead plant cells
+     * @param wall       the color of wall cells
+     * @param stroke     the color of the grid lines
+     */
+    public void setColors(Color liveAnimal, Color deadAnimal, Color livePlant, Color deadPlant,
+                          Color wall, Color stroke) {
+        palette[stateIndex(CellType.ANIMAL, true)] = toArgb(liveAnimal);
+        palette[stateIndex(CellType.ANIMAL, false)] = toArgb(deadAnimal);
+        palette[stateIndex(CellType.PLANT, true)] = toArgb(livePlant);
+        palette[stateIndex(CellType.PLANT, false)] = toArgb(deadPlant);
+        palette[stateIndex(CellType.WALL, true)] = toArgb(wall);
+        palette[stateIndex(CellType.WALL, false)] = toArgb(wall);
+        strokeColor = toArgb(stroke);
+    }
+
+    /* ---------- PAINTING ---------- */
+    /**
+     * Repaints the visible window of a board snapshot in one pass.
+     * @param snapshot the board to draw (must match the configured dimensions)
+     */
+    public void paintBoard(BoardSnapshot snapshot) {
+        this.snapshot = snapshot;
+        mipmap.invalidate();
+        repaint();
+    }
+
+    /**
+     * Repaints the cells the snapshot recorded as changed. Zoomed in, only the visible
+     * changed cells are painted, unless there are more of them than visible cells;
+     * zoomed out, the density mipmap is brought up to date and the window is redrawn
+     * from it.
+     * @param snapshot the board to draw (must match the configured dimensions)
+     */
+    public void paintChanges(BoardSnapshot snapshot) {
+        this.snapshot = snapshot;
+        ChangedCells changes = snapshot.getChangedCells();
+        if (pixelBuffer == null) {
+            mipmap.invalidate();
+            return;
+        }
+        if (!changes.isAllChanged() && changes.isEmpty()) {
+            return;
+        }
+
+        if (!isMagnified()) {
+            if (mipmapLevel() >= DensityMipmap.MIN_LEVEL) {
+                mipmap.update(snapshot);
+            } else {
+                mipmap.invalidate();
+            }
+            repaint();
+            return;
+        }
+
+        mipmap.invalidate();
+        if (changes.isAllChanged() || changes.count() > visibleCells()) {
+            repaint();
+            return;
+        }
+        changes.forEach(paintChange);
+        flush();
+    }
+
+    /**
+     * Redraws the whole window from the last painted snapshot.
+     */
+    private void repaint() {
+        if (pixelBuffer == null) {
+            return;
+        }
+        Arrays.fill(pixels, BACKGROUND);
+        if (snapshot != null && boardRows > 0) {
+            if (isMagnified()) {
+                paintMagnified();
+            } else if (mipmapLevel() >= DensityMipmap.MIN_LEVEL) {
+                paintFromMipmap();
+            } else {
+                paintAveraged();
+            }
+        }
+        pixelBuffer.updateBuffer(_ -> null);
+        clearDirty();
+    }
+
+    /**
+     * Paints every visible cell at one pixel or more per cell, with grid lines once
+     * cells are large enough.
+     */
+    private void paintMagnified() {
+        int firstRow = Math.max(0, (int) Math.floor(originY));
+        int endRow = Math.min(boardRows, (int) Math.ceil(originY + imageHeight / scaleY()));
+        int firstCol = Math.max(0, (int) Math.floor(originX));
+        int endCol = Math.min(boardCols, (int) Math.ceil(originX + imageWidth / scaleX()));
+        if (firstRow >= endRow || firstCol >= endCol) {
+            return;
+        }
+
+        if (gridLine() != 0) {
+            // The cells leave their top and left edges as lines; close the bottom and right ones
+            int top = Math.max(0, rowY(firstRow));
+            int bottom = Math.min(imageHeight, rowY(endRow) + 1);
+            int left = Math.max(0, colX(firstCol));
+            int right = Math.min(imageWidth, colX(endCol) + 1);
+            for (int y = top; y < bottom; y++) {
+                Arrays.fill(pixels, y * imageWidth + left, y * imageWidth + right, strokeColor);
+            }
+        }
+        for (int r = firstRow; r < endRow; r++) {
+            for (int c = firstCol; c < endCol; c++) {
+                fillCell(r, c, palette[snapshot.getState(r, c)]);
+            }
+        }
+    }
+
+    /**
+     * Paints a window where a pixel covers fewer than 4x4 cells by averaging the colors
+     * of the cells under each pixel.
+     */
+    private void paintAveraged() {
+        double cellsPerPixelX = 1 / scaleX();
+        double cellsPerPixelY = 1 / scaleY();
+        for (int py = 0; py < imageHeight; py++) {
+            int startRow = (int) Math.floor(originY + py * cellsPerPixelY);
+            int endRow = Math.min(boardRows, Math.max((int) Math.floor(originY + (py + 1) * cellsPerPixelY), startRow + 1));
+            int firstRow = Math.max(0, startRow);
+            if (firstRow >= endRow) continue;
+
+            for (int px = 0; px < imageWidth; px++) {
+                int startCol = (int) Math.floor(originX + px * cellsPerPixelX);
+                int endCol = Math.min(boardCols, Math.max((int) Math.floor(originX + (px + 1) * cellsPerPixelX), startCol + 1));
+                int firstCol = Math.max(0, startCol);
+                if (firstCol >= endCol) continue;
+
+                Arrays.fill(states, 0);
+                for (int r = firstRow; r < endRow; r++) {
+                    for (int c = firstCol; c < endCol; c++) {
+                        states[snapshot.getState(r, c)]++;
+                    }
+                }
+                pixels[py * imageWidth + px] = blend(states, (endRow - firstRow) * (endCol - firstCol));
+            }
+        }
+    }
+
+    /**
+     * Paints a window where a pixel covers 4x4 cells or more from the level of the density
+     * mipmap whose blocks are about a pixel in size, at a constant cost per pixel.
+     */
+    private void paintFromMipmap() {
+        if (!mipmap.isValid()) {
+            mipmap.update(snapshot);
+        }
+        int level = Math.min(mipmapLevel(), mipmap.getMaxLevel());
+        double cellsPerPixelX = 1 / scaleX();
+        double cellsPerPixelY = 1 / scaleY();
+
+        for (int py = 0; py < imageHeight; py++) {
+            int row = (int) Math.floor(originY + (py + 0.5) * cellsPerPixelY);
+            if (row < 0 || row >= boardRows) continue;
+            int blockRow = row >> level;
+
+            int lastBlockCol = -1;
+            int color = BACKGROUND;
+            for (int px = 0; px < imageWidth; px++) {
+                int col = (int) Math.floor(originX + (px + 0.5) * cellsPerPixelX);
+                if (col < 0 || col >= boardCols) continue;
+                int blockCol = col >> level;
+                if (blockCol != lastBlockCol) {
+                    lastBlockCol = blockCol;
+                    color = blend(states, mipmap.read(level, blockRow, blockCol, states));
+                }
+                pixels[py * imageWidth + px] = color;
+            }
+        }
+    }
+
+    /**
+     * Paints one changed cell if it is visible. The change becomes visible on the next {@link #flush}.
+     */
+    private void paintChange(int row, int col) {
+        int x = colX(col);
+        int y = rowY(row);
+        if (x >= imageWidth || y >= imageHeight || colX(col + 1) <= 0 || rowY(row + 1) <= 0) {
+            return;
+        }
+        fillCell(row, col, palette[snapshot.getState(row, col)]);
+
+        dirtyMinX = Math.min(dirtyMinX, Math.max(0, x));
+        dirtyMinY = Math.min(dirtyMinY, Math.max(0, y));
+        dirtyMaxX = Math.max(dirtyMaxX, Math.min(imageWidth, colX(col + 1) + gridLine()));
+        dirtyMaxY = Math.max(dirtyMaxY, Math.min(imageHeight, rowY(row + 1) + gridLine()));
+    }
+
+    /**
+     * Pushes the cells painted since the last flush to the screen.
+     */
+    private void flush() {
+        if (dirtyMaxX <= dirtyMinX || dirtyMaxY <= dirtyMinY) {
+            clearDirty();
+            return;
+        }
+        Rectangle2D dirty = new Rectangle2D(dirtyMinX, dirtyMinY, dirtyMaxX - dirtyMinX, dirtyMaxY - dirtyMinY);
+        pixelBuffer.updateBuffer(_ -> dirty);
+        clearDirty();
+    }
+
+    /**
+     * Fills the visible part of the interior of a cell, leaving its top and left grid
+     * lines untouched.
+     */
+    private void fillCell(int row, int col, int color) {
+        int x = Math.max(0, colX(col) + gridLine());
+        int endX = Math.min(imageWidth, colX(col + 1));
+        int y = Math.max(0, rowY(row) + gridLine());
+        int endY = Math.min(imageHeight, rowY(row + 1));
+        for (int py = y; py < endY; py++) {
+            Arrays.fill(pixels, py * imageWidth + x, py * imageWidth + Math.max(x, endX), color);
+        }
+    }
+
+    /**
+     * Averages the palette colors of a number of cells per state.
+     */
+    private int blend(int[] counts, int cells) {
+        long a = 0;
+        long r = 0;
+        long g = 0;
+        long b = 0;
+        for (int state = 0; state < counts.length; state++) {
+            int count = counts[state];
+            if (count == 0) continue;
+            int color = palette[state];
+            a += (long) count * (color >>> 24);
+            r += (long) count * ((color >> 16) & 0xFF);
+            g += (long) count * ((color >> 8) & 0xFF);
+            b += (long) count * (color & 0xFF);
+        }
+        long half = cells / 2;
+        return (int) ((a + half) / cells) << 24 | (int) ((r + half) / cells) << 16
+                | (int) ((g + half) / cells) << 8 | (int) ((b + half) / cells);
+    }
+
+    /* ---------- VIEWPORT ---------- */
+    /**
+     * Zooms in one step about the center of the view.
+     */
+    public void zoomIn() {
+        zoomAt(imageWidth / 2.0, imageHeight / 2.0, ZOOM_STEP);
+    }
+
+    /**
+     * Zooms out one step about the center of the view.
+     */
+    public void zoomOut() {
+        zoomAt(imageWidth / 2.0, imageHeight / 2.0, 1 / ZOOM_STEP);
+    }
+
+    /**
+     * Returns to 100% zoom, where cells have their configured size, about the center of the view.
+     */
+    public void resetZoom() {
+        zoomAt(imageWidth / 2.0, imageHeight / 2.0, 1 / zoom);
+    }
+
+    /**
+     * Zooms so the whole board fits the view, and centers it.
+     */
+    public void fitBoard() {
+        if (imageWidth == 0 || imageHeight == 0 || boardRows == 0) {
+            return;
+        }
+        zoom = Math.min(fitZoom(), maxZoom());
+        originX = (boardCols - imageWidth / scaleX()) / 2;
+        originY = (boardRows - imageHeight / scaleY()) / 2;
+        repaint();
+    }
+
+    /**
+     * Returns the zoom factor.
+     * @return the cell size relative to the configured one, 1 at 100%
+     */
+    public double getZoom() {
+        return zoom;
+    }
+
+    /**
+     * Zooms by a factor, keeping the board position under a point of the view in place.
+     */
+    private void zoomAt(double x, double y, double factor) {
+        if (imageWidth == 0 || imageHeight == 0 || boardRows == 0) {
+            return;
+        }
+        double boardX = originX + x / scaleX();
+        double boardY = originY + y / scaleY();
+        zoom = Math.max(minZoom(), Math.min(maxZoom(), zoom * factor));
+        originX = boardX - x / scaleX();
+        originY = boardY - y / scaleY();
+        clampOrigin();
+        repaint();
+    }
+
+    /**
+     * Moves the board by a distance in pixels.
+     */
+    private void panBy(double dx, double dy) {
+        if (boardRows == 0) {
+            return;
+        }
+        originX -= dx / scaleX();
+        originY -= dy / scaleY();
+        clampOrigin();
+        repaint();
+    }
+
+    /**
+     * Keeps at least half of the view on the board.
+     */
+    private void clampOrigin() {
+        if (imageWidth == 0 || imageHeight == 0) {
+            return;
+        }
+        double halfWidth = imageWidth / scaleX() / 2;
+        double halfHeight = imageHeight / scaleY() / 2;
+        originX = Math.max(-halfWidth, Math.min(boardCols - halfWidth, originX));
+        originY = Math.max(-halfHeight, Math.min(boardRows - halfHeight, originY));
+    }
+
+    /**
+     * Zooms out, if needed, until the whole board is visible from the top-left corner.
+     * Deferred to the first layout while the view has no size yet.
+     */
+    private void keepBoardVisible() {
+        if (imageWidth == 0 || imageHeight == 0) {
+            fitPending = true;
+            return;
+        }
+        fitPending = false;
+        if (!isBoardVisible()) {
+            zoom = Math.min(zoom, fitZoom());
+            originX = 0;
+            originY = 0;
+        }
+    }
+
+    private boolean isBoardVisible() {
+        return originX <= 0 && originY <= 0
+                && originX + imageWidth / scaleX() >= boardCols
+                && originY + imageHeight / scaleY() >= boardRows;
+    }
+
+    /**
+     * Allocates an image the size of the view whenever the view is resized.
+     */
+    @Override
+    protected void layoutChildren() {
+        int width = (int) Math.floor(getWidth());
+        int height = (int) Math.floor(getHeight());
+        if (width == imageWidth && height == imageHeight) {
+            return;
+        }
+        imageWidth = width;
+        imageHeight = height;
+        if (width <= 0 || height <= 0) {
+            imageWidth = 0;
+            imageHeight = 0;
+            pixels = new int[0];
+            pixelBuffer = null;
+            imageView.setImage(null);
+            return;
+        }
+
+        pixels = new int[width * height];
+        pixelBuffer = new PixelBuffer<>(width, height, IntBuffer.wrap(pixels), PixelFormat.getIntArgbPreInstance());
+        imageView.setImage(new WritableImage(pixelBuffer));
+        if (fitPending && boardRows > 0) {
+            keepBoardVisible();
+        }
+        clampOrigin();
+        repaint();
+    }
+
+    /* ---------- COORDINATES ---------- */
+    /**
+     * Returns the number of rows the view is configured for.
+     * @return the row count
+     */
+    public int getBoardRows() {
+        return boardRows;
+    }
+
+    /**
+     * Returns the number of columns the view is configured for.
+     * @return the column count
+     */
+    public int getBoardCols() {
+        return boardCols;
+    }
+
+    /**
+     * Maps a horizontal position in the view to a board column.
+     * @param x the x coordinate relative to the view
+     * @return the column index, or -1 if the position is outside the board
+     */
+    public int colAt(double x) {
+        int col = (int) Math.floor(originX + x / scaleX());
+        return col >= 0 && col < boardCols ? col : -1;
+    }
+
+    /**
+     * Maps a vertical position in the view to a board row.
+     * @param y the y coordinate relative to the view
+     * @return the row index, or -1 if the position is outside the board
+     */
+    public int rowAt(double y) {
+        int row = (int) Math.floor(originY + y / scaleY());
+        return row >= 0 && row < boardRows ? row : -1;
+    }
+
+    private double scaleX() {
+        return cellWidth * zoom;
+    }
+
+    private double scaleY() {
+        return cellHeight * zoom;
+    }
+
+    private int colX(int col) {
+        return (int) Math.floor((col - originX) * scaleX());
+    }
+
+    private int rowY(int row) {
+        return (int) Math.floor((row - originY) * scaleY());
+    }
+
+    private boolean isMagnified() {
+        return scaleX() >= 1 && scaleY() >= 1;
+    }
+
+    private int gridLine() {
+        return scaleX() >= MIN_GRID_CELL_SIZE && scaleY() >= MIN_GRID_CELL_SIZE ? 1 : 0;
+    }
+
+    /**
+     * Returns the mipmap level whose blocks are no larger than the cells under a pixel.
+     */
+    private int mipmapLevel() {
+        int cellsPerPixel = (int) Math.max(1 / scaleX(), 1 / scaleY());
+        return 31 - Integer.numberOfLeadingZeros(Math.max(1, cellsPerPixel));
+    }
+
+    private double visibleCells() {
+        return (imageWidth / scaleX() + 1) * (imageHeight / scaleY() + 1);
+    }
+
+    private double fitZoom() {
+        return Math.min((double) imageWidth / ((double) boardCols * cellWidth),
+                (double) imageHeight / ((double) boardRows * cellHeight));
+    }
+
+    private double minZoom() {
+        return Math.min(1, fitZoom() / 2);
+    }
+
+    private double maxZoom() {
+        return MAX_CELL_SIZE / Math.min(cellWidth, cellHeight);
+    }
+
+    private void clearDirty() {
+        dirtyMinX = Integer.MAX_VALUE;
+        dirtyMinY = Integer.MAX_VALUE;
+        dirtyMaxX = Integer.MIN_VALUE;
+        dirtyMaxY = Integer.MIN_VALUE;
+    }
+
+    private static int stateIndex(CellType type, boolean isAlive) {
+        return type.ordinal() * 2 + (isAlive ? 1 : 0);
+    }
+
+    /**
+     * Converts a color to a premultiplied ARGB pixel.
+     */
+    private static int toArgb(Color color) {
+        double alpha = color.getOpacity();
+        int a = (int) Math.round(alpha * 255);
+        int r = (int) Math.round(color.getRed() * alpha * 255);
+        int g = (int) Math.round(color.getGreen() * alpha * 255);
+        int b = (int) Math.round(color.getBlue() * alpha * 255);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+}
@@ -1,14 +1,43 @@
 package gameoflife;
 
+import gameoflife.core.AbstractCell;
+import gameoflife.core.AnimalCell;
+import gameoflife.core.BitboardEngine;
+import gameoflife.core.BoardSnapshot;
+import gameoflife.core.BoundaryMode;
+import gameoflife.core.CellType;
+import gameoflife.core.LatencyHistogram;
+import gameoflife.core.LifeLogic;
+import gameoflife.core.LifeSimulation;
+import gameoflife.core.ParallelEngine;
+import gameoflife.core.PlantCell;
+import gameoflife.core.PopulationSeries;
+import gameoflife.core.RleFormat;
+import gameoflife.core.RuleRegistry;
+import gameoflife.core.SimulationMetrics;
+import gameoflife.core.SnapshotFormat;
+import gameoflife.core.TimeSeries;
+import gameoflife.core.WallCell;
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.XYChart;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.input.MouseButton;
-import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
+import javafx.stage.FileChooser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Controller class for the Game of Life JavaFX application.
@@ -24,15 +53,16 @@ import javafx.scene.paint.Color;
  * </pre>
  *
  * @author          Jarrell Quincy | r3lic
- * @version         2.0.0
+ * @version         2.1.0
  * @since           1.0.0
  */
 public class LifeController {
     /* ---------- Game Board ----------*/
     @FXML
-    private GridPane gameBoard;
-    private LifeLogic logicState;
-    private LifeCell[][] uiState;
+    private LifeBoardView gameBoard;
+    private LifeSimulation simulation;
+    // The snapshot currently shown by gameBoard
+    private BoardSnapshot displayed;
 
     /* ---------- CONTROLS ----------- */
     // Board Size
@@ -76,6 +106,12 @@ public class LifeController {
     @FXML
     private Slider speedSlider;
 
+    // History
+    @FXML
+    private Slider historySlider;
+    // Set while historySlider follows the displayed generation, so it does not jump
+    private boolean syncingHistory = false;
+
     // Start/Stop Button
     @FXML
     private Button startStopButton;
@@ -103,36 +139,120 @@ public class LifeController {
 
     /* ---------- STATS OBJECTS ---------- */
     private LifeStat generationStat;
+    private LifeStat periodStat;
     private LifeStat livingStat;
     private LifeStat deceasedStat;
 
+    /* ---------- FILES ---------- */
+    private FileChooser snapshotChooser;
+    private FileChooser patternChooser;
+    private FileChooser rulesChooser;
+    private FileChooser csvChooser;
+    // The rules given to every board the simulation runs
+    private RuleRegistry rules = new RuleRegistry();
+    // What lies beyond the edges of every board the simulation runs
+    private BoundaryMode boundary = BoundaryMode.DEAD;
+    @FXML
+    private ProgressBar fileProgress;
+    // Set while the size spinners follow a loaded board, so they do not resize it
+    private boolean syncingBoardSize = false;
+
     /* ---------- ANIMATION CONTROL ---------- */
-    private AnimationTimer gameLoop;
+    private AnimationTimer renderLoop;
     private boolean isRunning = false;
+    @FXML
+    private CheckMenuItem stopWhenStableItem;
+
+    /* ---------- METRICS ---------- */
+    // Refresh interval of the metrics overlay
+    private static final long HUD_INTERVAL_NANOS = 250_000_000L;
+    private static final String METRICS_NAME = "gui";
+    @FXML
+    private CheckMenuItem showMetricsItem;
+    @FXML
+    private Label metricsHud;
+    private long hudUpdatedNanos;
+
+    /* ---------- POPULATION ---------- */
+    // Refresh interval of the population chart
+    private static final long CHART_INTERVAL_NANOS = 500_000_000L;
+    private static final String[] POPULATION_LABELS = { "Living Animals", "Living Plants", "Births", "Deaths" };
+    @FXML
+    private CheckMenuItem showPopulationItem;
+    @FXML
+    private TitledPane populationPane;
+    @FXML
+    private LineChart<Number, Number> populationChart;
+    private final List<XYChart.Series<Number, Number>> populationLines = new ArrayList<>();
+    private long chartUpdatedNanos;
 
     /**
      * Initializes the controller after the FXML file has been loaded.
-     * Sets up UI control factories, listeners, statistical tables, and
-     * the primary game loop.
+     * Sets up UI control factories, listeners, statistical tables, the
+     * simulation thread and the render loop.
      * * <pre>
      * Postconditions:  UI controls are populated with default values.
      * Listeners are attached to all spinners and pickers.
-     * The initial LifeLogic state and GridPane are generated.
+     * The initial LifeLogic state is handed to a running simulation thread.
      * </pre>
      */
     @FXML
     public void initialize() {
         setupSpinners();
         setDefaultValues();
-        setupListeners();
         setupStatsTables();
         getCurrentSettings();
 
-        // Set initial Logic and UI states
-        logicState = new LifeLogic(boardRows, boardCols);
+        // Set initial Logic state and hand it to the simulation thread
+        simulation = new LifeSimulation(createLogicState(), speedSlider.getValue());
+        simulation.setErrorListener(error -> Platform.runLater(() -> showSimulationError(error)));
+
+        setupListeners();
+        setupBoardMouseHandler();
         rebuildUI();
 
+        setupMetrics();
+        setupPopulationChart();
         setupAnimationTimer();
+        renderLoop.start();
+    }
+
+    /**
+     * Creates an empty logic board at the current dimensions.
+     * @return the new logic board
+     */
+    private LifeLogic createLogicState() {
+        LifeLogic logic = new LifeLogic(boardRows, boardCols);
+        configureLogic(logic);
+        return logic;
+    }
+
+    /**
+     * Sets up a board for the simulation thread: it is stepped by the bit-parallel
+     * {@code BitboardEngine} split into bands across all cores, records its
+     * history for rewinding, and follows the loaded rules and selected boundary.
+     * @param logic the board to configure
+     */
+    private void configureLogic(LifeLogic logic) {
+        logic.setEngine(new ParallelEngine(new BitboardEngine()));
+        logic.setHistoryBudget(Defaults.HISTORY_BUDGET);
+        logic.setRules(rules);
+        logic.setBoundaryMode(boundary);
+    }
+
+    /**
+     * Hands a loaded board to the simulation thread, configured like a new one,
+     * and moves the size spinners to its dimensions.
+     * @param logic the loaded board (must not be used by the caller afterwards)
+     */
+    private void installBoard(LifeLogic logic) {
+        configureLogic(logic);
+        simulation.replaceBoard(logic);
+
+        syncingBoardSize = true;
+        rowSpinner.getValueFactory().setValue(logic.getRows());
+        colSpinner.getValueFactory().setValue(logic.getCols());
+        syncingBoardSize = false;
     }
 
     /**
@@ -140,8 +260,8 @@ public class LifeController {
      * Sets range constraints for board dimensions and cell sizes.
      */
     private void setupSpinners() {
-        rowSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 100, Defaults.BOARD_ROWS));
-        colSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 100, Defaults.BOARD_COLS));
+        rowSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, Defaults.MAX_BOARD_SIZE, Defaults.BOARD_ROWS));
+        colSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, Defaults.MAX_BOARD_SIZE, Defaults.BOARD_COLS));
         cellWidthSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 100, Defaults.CELL_WIDTH));
         cellHeightSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 100, Defaults.CELL_HEIGHT));
     }
@@ -199,46 +319,71 @@ public class LifeController {
 
         liveAnimalColorPicker.valueProperty().addListener((_, _, newValue) -> {
             liveAnimalColor = newValue;
-            syncUILogicState();
+            applyPalette();
         });
         deadAnimalColorPicker.valueProperty().addListener((_, _, newValue) -> {
             deadAnimalColor = newValue;
-            syncUILogicState();
+            applyPalette();
         });
 
         livePlantColorPicker.valueProperty().addListener((_, _, newValue) -> {
             livePlantColor = newValue;
-            syncUILogicState();
+            applyPalette();
         });
         deadPlantColorPicker.valueProperty().addListener((_, _, newValue) -> {
             deadPlantColor = newValue;
-            syncUILogicState();
+            applyPalette();
         });
         wallColorPicker.valueProperty().addListener((_, _, newValue) -> {
             wallColor = newValue;
-            syncUILogicState();
+            applyPalette();
         });
         strokeColorPicker.valueProperty().addListener((_, _, newValue) -> {
             strokeColor = newValue;
-            syncUILogicState();
+            applyPalette();
+        });
+
+        speedSlider.valueProperty().addListener((_, _, newValue) ->
+                simulation.setTickInterval(newValue.doubleValue()));
+
+        // Scrubbing the history stops the game and restores the chosen generation
+        historySlider.valueProperty().addListener((_, _, newValue) -> {
+            if (syncingHistory) return;
+            stopGame();
+            int generation = (int) Math.round(newValue.doubleValue());
+            simulation.edit(logic -> logic.jumpToGeneration(generation));
         });
     }
 
     /**
-     * Updates the dimensions of all {@code LifeCell} objects in the UI grid.
+     * Redraws the board view at the new cell width and height.
      * * <pre>
-     * Preconditions:   uiState array must be initialized.
      * Postconditions:  All cells in the grid reflect the new width and height.
      * </pre>
      */
     private void updateCellDimensions() {
-        if (uiState == null) return;
-        for (LifeCell[] cellRow : uiState) {
-            for (LifeCell cell : cellRow) {
-                cell.setWidth(cellWidth);
-                cell.setHeight(cellHeight);
+        rebuildUI();
+    }
+
+    /**
+     * Attaches a single mouse handler to the board view that maps the clicked pixel to
+     * a cell, toggling it on a left click and placing the selected cell type on a right click.
+     * Clicks that end a drag only pan the view.
+     */
+    private void setupBoardMouseHandler() {
+        gameBoard.setOnMouseClicked(event -> {
+            if (!event.isStillSincePress()) return;
+            int row = gameBoard.rowAt(event.getY());
+            int col = gameBoard.colAt(event.getX());
+            if (row < 0 || col < 0) return;
+
+            MouseButton button = event.getButton();
+            if (button == MouseButton.PRIMARY) {
+                onCellLeftClicked(row, col);
+            } else if (button == MouseButton.SECONDARY) {
+                onCellRightClicked(row, col);
             }
-        }
+        });
     }
 
     /**
@@ -251,19 +396,21 @@ public class LifeController {
 
         generationStat = new LifeStat("Generations", 0);
         livingStat = new LifeStat("Living Cells", 0);
+        periodStat = new LifeStat("Period", 0);
         deceasedStat = new LifeStat("Deceased Cells", 0);
 
-        statsData.addAll(generationStat, livingStat, deceasedStat);
+        statsData.addAll(generationStat, periodStat, livingStat, deceasedStat);
         statsTable.setItems(statsData);
     }
 
     /**
-     * Refreshes the values in the statistics table from the current logic state.
+     * Refreshes the values in the statistics table from the displayed snapshot.
      */
     private void updateStatsTable() {
-        generationStat.setValue(logicState.getGenerationCount());
-        livingStat.setValue(logicState.getLivingCount());
-        deceasedStat.setValue(logicState.getDeceasedCount());
+        generationStat.setValue(displayed.getGenerationCount());
+        periodStat.setValue(displayed.getPeriod());
+        livingStat.setValue(displayed.getLivingCount());
+        deceasedStat.setValue(displayed.getDeceasedCount());
     }
 
     /**
@@ -283,169 +430,322 @@ public class LifeController {
     }
 
     /**
-     * Initializes the {@code AnimationTimer} responsible for the game loop.
+     * Publishes the simulation's metrics over JMX and ties the metrics overlay to its
+     * menu item. The overlay still works when the registration fails.
+     */
+    private void setupMetrics() {
+        try {
+            simulation.getMetrics().register(METRICS_NAME);
+        } catch (IllegalStateException e) {
+            System.err.println(e.getMessage());
+        }
+        metricsHud.visibleProperty().bind(showMetricsItem.selectedProperty());
+    }
+
+    /**
+     * Refreshes the metrics overlay: the rate of generations, the mean and 99th
+     * percentile of every phase, births and deaths per cell type and the memory per cell.
+     */
+    private void updateMetricsHud() {
+        SimulationMetrics metrics = simulation.getMetrics();
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%-13s %9.1f gen/s%n", "Rate", metrics.getGenerationsPerSecond()));
+        for (SimulationMetrics.Phase phase : SimulationMetrics.Phase.values()) {
+            LatencyHistogram histogram = metrics.getHistogram(phase);
+            text.append(String.format(Locale.ROOT, "%-13s %7.3f ms  p99 %7.3f ms%n", phase,
+                    histogram.getMeanNanos() / 1e6, histogram.getPercentileNanos(0.99) / 1e6));
+        }
+        for (CellType type : CellType.values()) {
+            text.append(String.format(Locale.ROOT, "%-13s +%d -%d%n", type,
+                    metrics.getBirths(type), metrics.getDeaths(type)));
+        }
+        text.append(String.format(Locale.ROOT, "%-13s %9.2f B/cell", "Memory", metrics.getBytesPerCell()));
+        metricsHud.setText(text.toString());
+    }
+
+    /**
+     * Adds a line per population channel to the chart and ties the chart to its menu item.
+     */
+    private void setupPopulationChart() {
+        for (String label : POPULATION_LABELS) {
+            XYChart.Series<Number, Number> line = new XYChart.Series<>();
+            line.setName(label);
+            populationLines.add(line);
+        }
+        populationChart.getData().setAll(populationLines);
+        populationPane.visibleProperty().bind(showPopulationItem.selectedProperty());
+        populationPane.managedProperty().bind(showPopulationItem.selectedProperty());
+    }
+
+    /**
+     * Redraws the population chart from a copy of the simulation's series, plotting the
+     * mean of every bucket at its last generation. The series holds a bounded number of
+     * buckets, so redrawing costs the same however long the simulation has run.
+     */
+    private void updatePopulationChart() {
+        TimeSeries population = simulation.getPopulation().copy();
+        for (int channel = 0; channel < populationLines.size(); channel++) {
+            List<XYChart.Data<Number, Number>> points = new ArrayList<>(population.size());
+            for (int bucket = 0; bucket < population.size(); bucket++) {
+                points.add(new XYChart.Data<>(population.getEnd(bucket), population.getMean(bucket, channel)));
+            }
+            populationLines.get(channel).getData().setAll(points);
+        }
+    }
+
+    /**
+     * Initializes the {@code AnimationTimer} responsible for rendering.
      * * <pre>
-     * Implementation:  Calculates the tick interval based on the {@code speedSlider}.
-     * The tick is executed only if the elapsed time exceeds the interval.
+     * Implementation:  Generations are computed on the simulation thread at the pace
+     * set by the {@code speedSlider}; every pulse, the timer only picks
+     * up the latest published snapshot, if any, and paints it.
      * </pre>
      */
     private void setupAnimationTimer() {
-        gameLoop = new AnimationTimer() {
-            private long lastUpdate = 0;
-
+        renderLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                double speedInMillis = speedSlider.getValue();
-                long interval = (long) (speedInMillis * 1_000_000);
-                if (now - lastUpdate >= interval) {
-                    tick();
-                    lastUpdate = now;
+                renderFrame();
+                if (showMetricsItem.isSelected() && now - hudUpdatedNanos >= HUD_INTERVAL_NANOS) {
+                    hudUpdatedNanos = now;
+                    updateMetricsHud();
+                }
+                if (showPopulationItem.isSelected() && now - chartUpdatedNanos >= CHART_INTERVAL_NANOS) {
+                    chartUpdatedNanos = now;
+                    updatePopulationChart();
                 }
             }
         };
     }
 
     /**
-     * Completely recreates the GridPane UI based on current board dimensions.
+     * Takes the latest snapshot from the simulation thread, if a new one was published,
+     * and paints the cells that changed since the previously displayed one. The view is
+     * rebuilt when the board dimensions changed.
+     */
+    private void renderFrame() {
+        BoardSnapshot snapshot = simulation.takeSnapshot(displayed);
+        if (snapshot == null) return;
+        int previousPeriod = displayed != null ? displayed.getPeriod() : 0;
+        displayed = snapshot;
+        SimulationMetrics metrics = simulation.getMetrics();
+
+        long startNanos = System.nanoTime();
+        if (displayed.getRows() != gameBoard.getBoardRows() || displayed.getCols() != gameBoard.getBoardCols()) {
+            gameBoard.configure(displayed.getRows(), displayed.getCols(), cellWidth, cellHeight);
+            gameBoard.paintBoard(displayed);
+        } else {
+            gameBoard.paintChanges(displayed);
+        }
+        long paintedNanos = System.nanoTime();
+        metrics.record(SimulationMetrics.Phase.UI_SYNC, paintedNanos - startNanos);
+
+        updateStatsTable();
+        updateHistorySlider();
+        metrics.record(SimulationMetrics.Phase.STATS_UPDATE, System.nanoTime() - paintedNanos);
+
+        // A board that just settled only repeats itself from now on, so stop computing it
+        if (isRunning && stopWhenStableItem.isSelected() && previousPeriod == 0 && displayed.getPeriod() > 0) {
+            stopGame();
+        }
+    }
+
+    /**
+     * Moves the history slider to the displayed generation and the recorded range,
+     * unless the user is dragging it.
+     */
+    private void updateHistorySlider() {
+        if (historySlider.isValueChanging()) return;
+        int start = displayed.getHistoryStart();
+        int end = displayed.getHistoryEnd();
+
+        syncingHistory = true;
+        historySlider.setDisable(start < 0 || start == end);
+        historySlider.setMin(Math.max(start, 0));
+        historySlider.setMax(Math.max(end, 0));
+        historySlider.setValue(displayed.getGenerationCount());
+        syncingHistory = false;
+    }
+
+    /**
+     * Completely recreates the board view based on the displayed board dimensions.
      * * <pre>
-     * Implementation:  Clears the GridPane, instantiates new LifeCell objects,
-     * and attaches mouse click events to each cell.
-     * Postconditions:  uiState array is refreshed and GridPane is repopulated.
+     * Implementation:  Reconfigures the view for the board and cell size, then
+     * redraws its visible window in one pass.
+     * Postconditions:  The board view is resized and repainted.
      * </pre>
      */
     private void rebuildUI() {
-        gameBoard.getChildren().clear();
-        uiState = new LifeCell[boardRows][boardCols];
+        UiEvent event = new UiEvent();
+        event.begin();
         getCurrentSettings();
-
-        for (int r = 0; r < boardRows; r++) {
-            for (int c = 0; c < boardCols; c++) {
-                LifeCell cell = createLifeCell(r, c);
-
-                uiState[r][c] = cell;
-                gameBoard.add(cell, c, r);
-            }
+        if (displayed != null) {
+            gameBoard.configure(displayed.getRows(), displayed.getCols(), cellWidth, cellHeight);
         }
+        applyPalette();
+        commitUiEvent(event, "rebuildUI");
+    }
 
+    /**
+     * Pushes the current color settings to the board view's palette and repaints it,
+     * so a theme change recolors the whole board in one pass.
+     */
+    private void applyPalette() {
+        gameBoard.setColors(liveAnimalColor, deadAnimalColor, livePlantColor, deadPlantColor, wallColor, strokeColor);
         syncUILogicState();
     }
 
     /**
-     * Instantiates a visual {@code LifeCell}, applies stroke settings, and attaches
-     * left/right mouse click event handlers.
-     * @param r the row index for the new cell
-     * @param c the column index for the new cell
-     * @return the configured visual cell object
+     * Synchronizes the board view with the displayed snapshot.
+     * Repaints every cell from its living status and specific {@code CellType} through
+     * the view's palette. Also refreshes the data in the stats table.
      */
-    private LifeCell createLifeCell(int r, int c) {
-        LifeCell cell = new LifeCell(cellWidth, cellHeight);
-        cell.setStroke(strokeColor);
+    private void syncUILogicState() {
+        if (displayed == null) return;
+        UiEvent event = new UiEvent();
+        event.begin();
+        SimulationMetrics metrics = simulation.getMetrics();
 
-        final int row = r;
-        final int col = c;
-        cell.setOnMouseClicked(event -> {
-            MouseButton button = event.getButton();
-            if (button == MouseButton.PRIMARY) {
-                onCellLeftClicked(cell, row, col);
-            } else if (button == MouseButton.SECONDARY) {
-                onCellRightClicked(row, col);
-            }
+        long startNanos = System.nanoTime();
+        gameBoard.paintBoard(displayed);
+        long paintedNanos = System.nanoTime();
+        metrics.record(SimulationMetrics.Phase.UI_SYNC, paintedNanos - startNanos);
 
-        });
-        return cell;
+        updateStatsTable();
+        metrics.record(SimulationMetrics.Phase.STATS_UPDATE, System.nanoTime() - paintedNanos);
+        commitUiEvent(event, "syncUILogicState");
     }
 
     /**
-     * Synchronizes the visual state of {@code LifeCell} objects with the internal logic state.
-     * Queries the logical model to update the visual color of each cell based on its living status
-     * and specific {@code CellType}. Also refreshes the data in the stats table.
+     * Ends a Flight Recorder event of a controller operation and, if a recording
+     * wants it, fills it in from the displayed snapshot and commits it.
+     * @param event     the event, begun when the operation started
+     * @param operation the name of the operation
      */
-    private void syncUILogicState() {
-        Color cellColor;
-
-        for (int r = 0; r < uiState.length; r++) {
-            for (int c = 0; c < uiState[0].length; c++) {
-                boolean living = logicState.isAlive(r, c);
-                CellType cellType = logicState.getCell(r, c).getCellType();
-
-                if (cellType == CellType.PLANT) {
-                    cellColor = living ? livePlantColor : deadPlantColor;
-                } else if (cellType == CellType.ANIMAL) {
-                    cellColor = living ? liveAnimalColor : deadAnimalColor;
-                } else {
-                    cellColor = wallColor;
-                }
-
-                uiState[r][c].setFill(cellColor);
-                uiState[r][c].setStroke(strokeColor);
-            }
+    private void commitUiEvent(UiEvent event, String operation) {
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.operation = operation;
+        if (displayed != null) {
+            event.rows = displayed.getRows();
+            event.cols = displayed.getCols();
+            event.living = displayed.getLivingCount();
+            event.changed = displayed.getChangedCells().count();
+            event.engine = displayed.getEngineName();
         }
+        event.commit();
+    }
 
-        updateStatsTable();
+    /**
+     * Ends a Flight Recorder event of an operation that ran on the simulation thread and,
+     * if a recording wants it, fills it in from the board it ran on and commits it.
+     * @param event     the event, begun when the operation started
+     * @param operation the name of the operation
+     * @param logic     the simulated board
+     */
+    private static void commitUiEvent(UiEvent event, String operation, LifeLogic logic) {
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.operation = operation;
+        event.rows = logic.getRows();
+        event.cols = logic.getCols();
+        event.living = logic.getLivingCount();
+        event.changed = logic.getChangedCells().count();
+        event.engine = logic.getActiveEngineName();
+        event.commit();
     }
 
     /**
-     * Advances the simulation by calculating the next generation in the logic model,
-     * then synchronizing the UI to reflect those changes.
+     * Asks the simulation thread to advance by a single generation. The Flight Recorder
+     * event is timed there, so it covers the step rather than sending the command.
      */
     @FXML
     private void tick() {
-        logicState.calculateNextGeneration();
-        syncUILogicState();
+        PopulationSeries population = simulation.getPopulation();
+        simulation.edit(logic -> {
+            UiEvent event = new UiEvent();
+            event.begin();
+            logic.calculateNextGeneration();
+            population.record(logic);
+            commitUiEvent(event, "tick", logic);
+        });
+    }
+
+    /**
+     * Stops the game and asks the simulation thread to restore the previous generation
+     * from its history.
+     */
+    @FXML
+    private void stepBack() {
+        stopGame();
+        simulation.edit(LifeLogic::stepBack);
+    }
+
+    /**
+     * Prompts for a number of generations and asks the simulation thread to advance the
+     * board by all of them at once. Long runs on a board with dead edges and 3x3 rules
+     * are computed by HashLife in power-of-two jumps.
+     */
+    @FXML
+    private void jumpAhead() {
+        TextInputDialog dialog = new TextInputDialog("1024");
+        dialog.setTitle("Jump Ahead");
+        dialog.setHeaderText("Advance the board without drawing the generations in between");
+        dialog.setContentText("Generations:");
+        dialog.showAndWait().ifPresent(text -> {
+            try {
+                int generations = Integer.parseInt(text.strip());
+                if (generations < 0) {
+                    throw new IllegalArgumentException("The generation count must not be negative");
+                }
+                simulation.edit(logic -> logic.advance(generations));
+            } catch (IllegalArgumentException e) {
+                showError("Could not jump ahead", e);
+            }
+        });
     }
 
     /**
      * Handles resizing the logic board when dimensions change.
      * * <pre>
-     * Implementation:  Creates a new {@code AbstractCell} array and uses {@code System.arraycopy}
-     * to migrate existing cell states to the new dimensions. Space outside the
-     * previous bounds will be filled with default dead AnimalCells.
-     * Postconditions:  The logic board is updated and the UI is rebuilt.
+     * Implementation:  Sends {@code LifeLogic.resize} to the simulation thread, which
+     * migrates the existing primitive cell planes to the new dimensions.
+     * Space outside the previous bounds will be filled with default dead
+     * AnimalCells.
+     * Postconditions:  The view is rebuilt once the resized board is published.
+     * The Flight Recorder event is timed on the simulation thread, so
+     * it covers the resize itself.
      * </pre>
      */
     private void handleResize() {
-        AbstractCell[][] oldBoardState = logicState.getBoardState();
-        AbstractCell[][] nextBoardState = new LifeLogic(boardRows, boardCols).getBoardState();
-        int resizedRowCount = Math.min(oldBoardState.length, nextBoardState.length);
-        int resizedColCount = Math.min(oldBoardState[0].length, nextBoardState[0].length);
-
-        for (int r = 0; r < resizedRowCount; r++) {
-            System.arraycopy(oldBoardState[r], 0, nextBoardState[r], 0, resizedColCount);
-        }
-
-        logicState.setBoardState(nextBoardState);
-
-        rebuildUI();
+        if (syncingBoardSize) return;
+        int rows = boardRows;
+        int cols = boardCols;
+        simulation.edit(logic -> {
+            UiEvent event = new UiEvent();
+            event.begin();
+            logic.resize(rows, cols);
+            commitUiEvent(event, "handleResize", logic);
+        });
     }
 
     /**
-     * Toggles the living state of a cell within the logic model and updates its visual color
-     * immediately without requiring a full UI sync.
-     * @param cell the {@code LifeCell} UI component that was clicked (must not be null)
+     * Toggles the living state of a cell within the logic model. Only that cell is
+     * repainted once the edit is published.
      * @param row  the row index of the cell
      * @param col  the column index of the cell
      */
-    private void onCellLeftClicked(LifeCell cell, int row, int col) {
-        logicState.toggleLiving(row, col);
-
-        CellType cellType = logicState.getCell(row, col).getCellType();
-        boolean living = logicState.isAlive(row, col);
-        Color cellColor;
-
-        if (cellType == CellType.PLANT) {
-            cellColor = living ? livePlantColor : deadPlantColor;
-        } else if (cellType == CellType.ANIMAL) {
-            cellColor = living ? liveAnimalColor : deadAnimalColor;
-        } else {
-            cellColor = wallColor;
-        }
-
-        cell.setFill(cellColor);
+    private void onCellLeftClicked(int row, int col) {
+        simulation.edit(logic -> {
+            if (row < logic.getRows() && col < logic.getCols()) {
+                logic.toggleLiving(row, col);
+            }
+        });
     }
 
     /**
      * Replaces the target cell in the logic model with a new cell type (Animal, Plant, or Wall)
-     * depending on which radio toggle is selected, then synchronizes the UI.
+     * depending on which radio toggle is selected.
      * @param row  the row index of the cell
      * @param col  the column index of the cell
      */
@@ -461,32 +761,35 @@ public class LifeController {
             newCell = new WallCell();
         }
 
-        logicState.setCell(row, col, newCell);
-        syncUILogicState();
+        simulation.edit(logic -> {
+            if (row < logic.getRows() && col < logic.getCols()) {
+                logic.setCell(row, col, newCell);
+            }
+        });
     }
 
     /**
-     * Starts the animation timer and updates the button text.
+     * Starts the simulation thread and updates the button text.
      */
     private void startGame() {
         isRunning = true;
-        gameLoop.start();
+        simulation.start();
         startStopButton.setText("Stop");
     }
 
     /**
-     * Stops the animation timer and updates the button text.
+     * Stops the simulation thread and updates the button text.
      */
     private void stopGame() {
         isRunning = false;
         boolean isPaused = startStopButton.getText().equals("Stop");
         startStopButton.setText(isPaused ? "Resume" : "Start");
-        gameLoop.stop();
+        simulation.stop();
     }
 
     /**
      * Acts as a toggle switch, calling either {@code startGame()} or {@code stopGame()}
-     * based on the current state of the animation loop.
+     * based on the current state of the simulation.
      */
     @FXML
     private void onStartStopClicked() {
@@ -503,26 +806,296 @@ public class LifeController {
     @FXML
     private void resetGame() {
         isRunning = false;
-        gameLoop.stop();
+        simulation.stop();
         startStopButton.setText("Start");
 
         setDefaultValues();
-        logicState = new LifeLogic(boardRows, boardCols);
-        updateStatsTable();
+        simulation.replaceBoard(createLogicState());
     }
 
     /**
-     * Leaves current settings intact but wipes the current board by instantiating
-     * a new {@code LifeLogic} instance and syncing the UI.
+     * Leaves current settings intact but wipes the current board by handing
+     * a new {@code LifeLogic} instance to the simulation thread.
      * <pre>
-     * Postconditions:  All cells in logicState are set to dead.
-     * The UI is updated to reflect the empty board.
+     * Postconditions:  All cells of the simulated board are set to dead.
+     * The UI is updated once the empty board is published.
      * </pre>
      */
     @FXML
     private void clearBoard() {
         stopGame();
-        logicState = new LifeLogic(boardRows, boardCols);
-        syncUILogicState();
+        simulation.replaceBoard(createLogicState());
+    }
+
+    /**
+     * Prompts for a snapshot file and saves the simulated board to it, deflated.
+     * The board is written on the simulation thread, so the saved state is consistent.
+     */
+    @FXML
+    private void saveSnapshot() {
+        File file = getSnapshotChooser().showSaveDialog(gameBoard.getScene().getWindow());
+        if (file == null) return;
+
+        Path path = file.toPath();
+        simulation.edit(logic -> {
+            try {
+                SnapshotFormat.write(logic, path, true);
+            } catch (IOException e) {
+                Platform.runLater(() -> showError("Could not save " + path.getFileName(), e));
+            }
+        });
+    }
+
+    /**
+     * Prompts for a snapshot file, stops the game and loads the file on a background
+     * thread, replacing the board once it is read. Boards larger than the size spinners
+     * allow are refused.
+     */
+    @FXML
+    private void openSnapshot() {
+        File file = getSnapshotChooser().showOpenDialog(gameBoard.getScene().getWindow());
+        if (file == null) return;
+        loadBoard(file.toPath(), path -> SnapshotFormat.read(path, Defaults.MAX_BOARD_SIZE));
+    }
+
+    /**
+     * Prompts for an RLE pattern, stops the game and imports the pattern on a background
+     * thread, showing its progress and replacing the board once it is read. Patterns
+     * larger than the size spinners allow are refused.
+     */
+    @FXML
+    private void importPattern() {
+        File file = getPatternChooser().showOpenDialog(gameBoard.getScene().getWindow());
+        if (file == null) return;
+
+        fileProgress.setProgress(0);
+        fileProgress.setVisible(true);
+        RleFormat.ProgressListener listener = progressListener();
+        loadBoard(file.toPath(), path -> RleFormat.read(path, Defaults.MAX_BOARD_SIZE, listener));
+    }
+
+    /**
+     * Prompts for an RLE file and exports the simulated board to it, showing the progress.
+     * The board is written on the simulation thread, so the exported state is consistent.
+     */
+    @FXML
+    private void exportPattern() {
+        File file = getPatternChooser().showSaveDialog(gameBoard.getScene().getWindow());
+        if (file == null) return;
+
+        fileProgress.setProgress(0);
+        fileProgress.setVisible(true);
+        RleFormat.ProgressListener listener = progressListener();
+        Path path = file.toPath();
+        simulation.edit(logic -> {
+            try {
+                RleFormat.write(logic, path, listener);
+                Platform.runLater(() -> fileProgress.setVisible(false));
+            } catch (IOException e) {
+                Platform.runLater(() -> {
+                    fileProgress.setVisible(false);
+                    showError("Could not export " + path.getFileName(), e);
+                });
+            }
+        });
+    }
+
+    /**
+     * Prompts for a CSV file and exports the population series to it: the minimum, mean
+     * and maximum of every channel per bucket of generations.
+     */
+    @FXML
+    private void exportPopulation() {
+        File file = getCsvChooser().showSaveDialog(gameBoard.getScene().getWindow());
+        if (file == null) return;
+
+        try {
+            simulation.getPopulation().copy().writeCsv(file.toPath());
+        } catch (IOException e) {
+            showError("Could not export " + file.getName(), e);
+        }
+    }
+
+    /**
+     * Stops the game and reads a board on a background thread, installing it once it is read.
+     * @param path   the file to read
+     * @param reader the format reader
+     */
+    private void loadBoard(Path path, BoardReader reader) {
+        stopGame();
+        Thread loader = new Thread(() -> {
+            try {
+                LifeLogic logic = reader.read(path);
+                Platform.runLater(() -> {
+                    fileProgress.setVisible(false);
+                    installBoard(logic);
+                });
+            } catch (IOException | RuntimeException | OutOfMemoryError e) {
+                Platform.runLater(() -> {
+                    fileProgress.setVisible(false);
+                    showError("Could not open " + path.getFileName(), e);
+                });
+            }
+        }, "board-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Reads a board from a file in one of the supported formats.
+     */
+    @FunctionalInterface
+    private interface BoardReader {
+        LifeLogic read(Path path) throws IOException;
+    }
+
+    /**
+     * Creates a listener that moves {@code fileProgress} along, posting to the FX thread
+     * only when the shown percentage changes.
+     * @return the progress listener
+     */
+    private RleFormat.ProgressListener progressListener() {
+        int[] shownPercent = { -1 };
+        return (done, total) -> {
+            if (total <= 0) return;
+            int percent = (int) (done * 100 / total);
+            if (percent != shownPercent[0]) {
+                shownPercent[0] = percent;
+                Platform.runLater(() -> fileProgress.setProgress(percent / 100.0));
+            }
+        };
+    }
+
+    /**
+     * Prompts for a properties file of rules per cell type and applies it to the
+     * current board and to every board created or loaded afterwards.
+     */
+    @FXML
+    private void loadRules() {
+        File file = getRulesChooser().showOpenDialog(gameBoard.getScene().getWindow());
+        if (file == null) return;
+
+        try {
+            rules = RuleRegistry.load(file.toPath());
+        } catch (IOException | IllegalArgumentException e) {
+            showError("Could not load rules from " + file.getName(), e);
+            return;
+        }
+        RuleRegistry loaded = new RuleRegistry(rules);
+        simulation.edit(logic -> logic.setRules(loaded));
+    }
+
+    /* ---------- VIEW ---------- */
+    /** Zooms the board view in one step. */
+    @FXML
+    private void zoomIn() {
+        gameBoard.zoomIn();
+    }
+
+    /** Zooms the board view out one step. */
+    @FXML
+    private void zoomOut() {
+        gameBoard.zoomOut();
+    }
+
+    /** Returns the board view to 100% zoom. */
+    @FXML
+    private void resetZoom() {
+        gameBoard.resetZoom();
+    }
+
+    /** Zooms the board view so the whole board fits. */
+    @FXML
+    private void fitBoard() {
+        gameBoard.fitBoard();
+    }
+
+    /**
+     * Applies the boundary mode of the selected Boundary menu item to the current
+     * board and to every board created or loaded afterwards.
+     * @param event the action event of the menu item, whose user data names the mode
+     */
+    @FXML
+    private void selectBoundary(ActionEvent event) {
+        boundary = BoundaryMode.valueOf((String) ((MenuItem) event.getSource()).getUserData());
+        BoundaryMode selected = boundary;
+        simulation.edit(logic -> logic.setBoundaryMode(selected));
+    }
+
+    /**
+     * Returns the file chooser for snapshots, creating it on first use.
+     * @return the snapshot file chooser
+     */
+    private FileChooser getSnapshotChooser() {
+        if (snapshotChooser == null) {
+            snapshotChooser = new FileChooser();
+            snapshotChooser.getExtensionFilters().add(
+                    new FileChooser.ExtensionFilter("Game of Life Snapshots (*.gols)", "*.gols"));
+        }
+        return snapshotChooser;
+    }
+
+    /**
+     * Returns the file chooser for RLE patterns, creating it on first use.
+     * @return the pattern file chooser
+     */
+    private FileChooser getPatternChooser() {
+        if (patternChooser == null) {
+            patternChooser = new FileChooser();
+            patternChooser.getExtensionFilters().add(
+                    new FileChooser.ExtensionFilter("RLE Patterns (*.rle)", "*.rle"));
+        }
+        return patternChooser;
+    }
+
+    /**
+     * Returns the file chooser for rule files, creating it on first use.
+     * @return the rules file chooser
+     */
+    private FileChooser getRulesChooser() {
+        if (rulesChooser == null) {
+            rulesChooser = new FileChooser();
+            rulesChooser.getExtensionFilters().add(
+                    new FileChooser.ExtensionFilter("Rule Files (*.properties)", "*.properties"));
+        }
+        return rulesChooser;
+    }
+
+    /**
+     * Returns the file chooser for CSV exports, creating it on first use.
+     * @return the CSV file chooser
+     */
+    private FileChooser getCsvChooser() {
+        if (csvChooser == null) {
+            csvChooser = new FileChooser();
+            csvChooser.getExtensionFilters().add(
+                    new FileChooser.ExtensionFilter("CSV Files (*.csv)", "*.csv"));
+        }
+        return csvChooser;
+    }
+
+    /**
+     * Reports a command or generation that failed on the simulation thread, which
+     * has stopped running, and hides the progress of an export it may have cut short.
+     * @param error the failure
+     */
+    private void showSimulationError(Throwable error) {
+        if (isRunning) {
+            stopGame();
+        }
+        fileProgress.setVisible(false);
+        showError("The simulation stopped", error);
+    }
+
+    /**
+     * Shows an error dialog for a failed operation.
+     * @param message the summary of what failed
+     * @param e       the cause
+     */
+    private void showError(String message, Throwable e) {
+        String detail = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        Alert alert = new Alert(Alert.AlertType.ERROR, detail);
+        alert.setHeaderText(message);
+        alert.showAndWait();
     }
 }
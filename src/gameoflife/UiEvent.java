@@ -0,0 +1,47 @@
+package gameoflife;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a {@code LifeController} operation. Rendering operations
+ * run on the JavaFX thread and describe the board displayed at the time; tick and
+ * handleResize are timed inside the command they send to the simulation thread and
+ * describe the simulated board. Disabled unless a recording enables it, e.g. with
+ * {@code jfr/gameoflife.jfc}.
+ *
+ * @author          Jarrell Quincy | r3lic
+ * @version         2.1.0
+ * @since           2.1.0
+ */
+@Name("gameoflife.UiOperation")
+@Label("UI Operation")
+@Category({"Game of Life", "User Interface"})
+@Description("A controller operation: tick, syncUILogicState, rebuildUI or handleResize")
+@Enabled(false)
+@Threshold("0 ms")
+final class UiEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Columns")
+    int cols;
+
+    @Label("Living Cells")
+    int living;
+
+    @Label("Changed Cells")
+    @Description("The cells changed since the previously displayed board, or since the last published one for tick and handleResize")
+    int changed;
+
+    @Label("Engine")
+    String engine;
+}
@@ -3,6 +3,8 @@ module gameoflife {
     requires javafx.fxml;
     requires javafx.graphics;
     requires javafx.base;
+    requires gameoflife.core;
+    requires jdk.jfr;
 
     opens gameoflife to javafx.fxml, javafx.graphics;
 